@@ -0,0 +1,62 @@
+package com.dzaitsev.android.widget;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * One million raw records aggregated into chart axes, on the calling thread and split across a thread pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AggregationBenchmark {
+  private static final int RECORDS = 1000000;
+
+  @Param({ "8", "64" }) int axes;
+  @Param({ "1", "4" })  int tasks;
+
+  private String[]        names;
+  private int[]           records;
+  private float[]         values;
+  private ExecutorService executor;
+
+  @Setup public void setUp() {
+    final Random random = new Random(42);
+    names = new String[axes];
+    for (int i = 0; i < axes; i++) {
+      names[i] = "axis" + i;
+    }
+    records = new int[RECORDS];
+    values = new float[RECORDS];
+    for (int i = 0; i < RECORDS; i++) {
+      records[i] = random.nextInt(axes);
+      values[i] = (float) random.nextGaussian() * 100;
+    }
+    executor = Executors.newFixedThreadPool(tasks);
+  }
+
+  @TearDown public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Benchmark public float[] aggregate() throws InterruptedException {
+    final RadarAggregation aggregation = new RadarAggregation(names);
+    if (tasks == 1) {
+      aggregation.addAll(records, values, 0, RECORDS);
+    } else {
+      aggregation.addAll(records, values, executor, tasks);
+    }
+    return aggregation.percentiles(0.95);
+  }
+}
@@ -0,0 +1,91 @@
+package com.dzaitsev.android.widget;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Data churn as seen by {@code addOrReplace} and {@code setAxis}, with and without the auto-sized scale: the store
+ * update followed by the geometry rebuild of the next frame.
+ * <p>
+ * {@code RadarFrame} builds {@code android.graphics.Path}s and cannot run on a plain JVM, so the rebuild is its
+ * android-free part: the rings of {@code setScale} and {@code buildVertices} when the scale changes, and the value
+ * vertices of {@code buildValues} on every update.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AxisUpdateBenchmark {
+  private static final float RADIUS    = 500;
+  private static final float AXIS_TICK = 4;
+
+  @Param({ "8", "64", "512" }) int     axes;
+  @Param({ "true", "false" })  boolean autoSize;
+
+  private final RingSet              rings = new RingSet();
+  private       AxisStore            axis;
+  private       RadarGeometry.Angles angles;
+  private       String[]             names;
+  private       float[]              values;
+  private       float[]              points;
+  private       int                  next;
+  private       float                axisMax;
+  private       float                ratio;
+
+  @Setup public void setUp() {
+    axis = new AxisStore();
+    names = new String[axes];
+    values = new float[axes];
+    for (int i = 0; i < axes; i++) {
+      names[i] = "axis" + i;
+      values[i] = i;
+    }
+    axis.set(names, values);
+    angles = RadarGeometry.angles(axes);
+    setScale(100);
+  }
+
+  @Benchmark public float[] addOrReplace() {
+    final int i = next;
+    next = (i + 1) % axes;
+    axis.put(names[i], (values[i] += 1) % 100);
+    return rebuild();
+  }
+
+  @Benchmark public float[] setAxis() {
+    axis.set(names, values);
+    return rebuild();
+  }
+
+  @Benchmark public float[] removeAndAdd() {
+    final int i = next;
+    next = (i + 1) % axes;
+    axis.remove(names[i]);
+    axis.put(names[i], values[i]);
+    return rebuild();
+  }
+
+  private float[] rebuild() {
+    if (autoSize) {
+      final float max = axis.max();
+      if (max != axisMax) {
+        setScale(max);
+      }
+    }
+    points = RadarGeometry.values(angles, axis.values(), ratio, RADIUS, RADIUS, points);
+    return points;
+  }
+
+  private void setScale(float max) {
+    axisMax = max;
+    ratio = RADIUS / max;
+    rings.layout(RADIUS, AXIS_TICK * ratio);
+    rings.buildVertices(angles, RADIUS, RADIUS);
+  }
+}
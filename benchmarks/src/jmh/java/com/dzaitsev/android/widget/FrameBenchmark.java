@@ -0,0 +1,82 @@
+package com.dzaitsev.android.widget;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A full frame, layout included, recorded by the headless SVG path into a writer which only counts characters.
+ * <p>
+ * {@code android.graphics.Canvas} cannot run on a plain JVM, so this is the closest stand-in for a recording canvas: it
+ * walks the same rings, spokes, value paths and labels as {@link RadarChartRenderer}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FrameBenchmark {
+  @Param({ "3", "8", "64", "512" }) int axes;
+  @Param({ "5", "50" })             int rings;
+  @Param({ "0", "1", "4" })         int series;
+
+  private final RadarChartSvg      svg    = new RadarChartSvg();
+  private final CountingWriter     writer = new CountingWriter();
+  private       RadarChartSnapshot snapshot;
+
+  @Setup public void setUp() {
+    final String[] names = new String[axes];
+    final float[] values = new float[axes];
+    for (int i = 0; i < axes; i++) {
+      names[i] = "axis" + i;
+      values[i] = i % 20;
+    }
+    final RadarChartSnapshot.Builder builder = new RadarChartSnapshot.Builder()
+        .size(1080, 1080)
+        .axis(names, values)
+        .axisMax(20)
+        .axisTick(20F / rings);
+    for (int s = 0; s < series; s++) {
+      final float[] seriesValues = new float[axes];
+      for (int i = 0; i < axes; i++) {
+        seriesValues[i] = (i + s) % 20;
+      }
+      builder.addSeries("series" + s, seriesValues, 0xFF000000 | s * 0x303030, 2, RadarChartSnapshot.STYLE_STROKE);
+    }
+    snapshot = builder.build();
+  }
+
+  @Benchmark public long frame() throws IOException {
+    writer.count = 0;
+    svg.write(snapshot, writer);
+    return writer.count;
+  }
+
+  private static final class CountingWriter extends Writer {
+    long count;
+
+    @Override public void write(int c) {
+      count++;
+    }
+
+    @Override public void write(String str) {
+      count += str.length();
+    }
+
+    @Override public void write(char[] buffer, int offset, int length) {
+      count += length;
+    }
+
+    @Override public void flush() {
+    }
+
+    @Override public void close() {
+    }
+  }
+}
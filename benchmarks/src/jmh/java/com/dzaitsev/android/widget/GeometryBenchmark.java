@@ -0,0 +1,50 @@
+package com.dzaitsev.android.widget;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Vertex projection, which replaced {@code Utils.createPoints}, and the unit-circle tables it is based on.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GeometryBenchmark {
+  @Param({ "3", "8", "64", "512" }) int axes;
+
+  private RadarGeometry.Angles angles;
+  private float[]              values;
+  private float[]              points;
+  private float[]              spokes;
+
+  @Setup public void setUp() {
+    angles = RadarGeometry.angles(axes);
+    values = new float[axes];
+    for (int i = 0; i < axes; i++) {
+      values[i] = i % 20;
+    }
+  }
+
+  @Benchmark public RadarGeometry.Angles angles() {
+    return new RadarGeometry.Angles(axes);
+  }
+
+  @Benchmark public float[] ring() {
+    return points = RadarGeometry.ring(angles, 100, 150, 150, points);
+  }
+
+  @Benchmark public float[] values() {
+    return points = RadarGeometry.values(angles, values, 5, 150, 150, points);
+  }
+
+  @Benchmark public float[] spokes() {
+    return spokes = RadarGeometry.spokes(angles, 100, 150, 150, RadarGeometry.stride(axes, 100, 2), spokes);
+  }
+}
@@ -0,0 +1,47 @@
+package com.dzaitsev.android.widget;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Ring colors and vertices as rebuilt on every size or scale change, the work formerly done by {@code buildRings}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RingsBenchmark {
+  private static final int   START_COLOR = 0xFF5F9CA1;
+  private static final int   END_COLOR   = 0xFFC3E3E5;
+  private static final float RADIUS      = 500;
+
+  @Param({ "3", "8", "64" })               int axes;
+  @Param({ "5", "50", "1000", "100000" }) int rings;
+
+  private final RingSet              ringSet = new RingSet();
+  private       RadarGeometry.Angles angles;
+
+  @Setup public void setUp() {
+    angles = RadarGeometry.angles(axes);
+  }
+
+  @Benchmark public void gradient(Blackhole blackhole) {
+    for (int i = 0; i < rings; i++) {
+      blackhole.consume(Colors.gradient(START_COLOR, END_COLOR, i, rings));
+    }
+  }
+
+  @Benchmark public RingSet buildRings() {
+    ringSet.layout(RADIUS, RADIUS / rings);
+    ringSet.color(START_COLOR, END_COLOR, null);
+    ringSet.buildVertices(angles, RADIUS, RADIUS);
+    return ringSet;
+  }
+}
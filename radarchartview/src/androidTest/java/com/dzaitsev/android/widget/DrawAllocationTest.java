@@ -0,0 +1,81 @@
+package com.dzaitsev.android.widget;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.os.Debug;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.view.View;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Fails if {@link RadarChartView#onDraw} allocates in steady state on a device: the view's own {@code draw}, with the
+ * dirty-flag rebuild, the cached static layers and every renderer call, after a value update per frame.
+ */
+@RunWith(AndroidJUnit4.class)
+@SuppressWarnings("deprecation")
+public class DrawAllocationTest {
+  private static final int WARM_UP    = 1000;
+  private static final int ITERATIONS = 1000;
+  private static final int AXES       = 32;
+  private static final int SIZE       = 400;
+
+  private RadarChartView view;
+  private Canvas         canvas;
+  private Bitmap         bitmap;
+  private float[]        values;
+
+  @Before public void setUp() throws Exception {
+    view = new RadarChartView(InstrumentationRegistry.getTargetContext());
+    final String[] names = new String[AXES];
+    values = new float[AXES];
+    for (int i = 0; i < AXES; i++) {
+      names[i] = "axis" + i;
+      values[i] = i * 3.5F;
+    }
+    view.setAxis(names, values);
+    view.setAxisMax(120);
+    view.addSeries("other", new float[AXES], 0xFF0000FF, 2, Paint.Style.STROKE);
+    view.setBand(new float[AXES], values.clone());
+    view.setSelectedAxis(3);
+    final int spec = View.MeasureSpec.makeMeasureSpec(SIZE, View.MeasureSpec.EXACTLY);
+    view.measure(spec, spec);
+    view.layout(0, 0, SIZE, SIZE);
+    bitmap = Bitmap.createBitmap(SIZE, SIZE, Bitmap.Config.ARGB_8888);
+    canvas = new Canvas(bitmap);
+  }
+
+  @After public void tearDown() throws Exception {
+    bitmap.recycle();
+  }
+
+  @Test public void valueUpdate_doesNotAllocate() throws Exception {
+    for (int i = 0; i < WARM_UP; i++) {
+      frame();
+    }
+    Debug.startAllocCounting();
+    try {
+      Debug.resetThreadAllocCount();
+      for (int i = 0; i < ITERATIONS; i++) {
+        frame();
+      }
+      assertEquals("Allocations in " + ITERATIONS + " frames", 0, Debug.getThreadAllocCount());
+    } finally {
+      Debug.stopAllocCounting();
+    }
+  }
+
+  private void frame() {
+    for (int i = 0; i < values.length; i++) {
+      values[i] = (values[i] + 0.5F) % 100;
+    }
+    view.setAxisValues(values);
+    view.draw(canvas);
+  }
+}
@@ -0,0 +1,226 @@
+package com.dzaitsev.android.widget;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Ordered axis data kept in parallel name and value arrays, values are never boxed. The {@link Map} API is available
+ * through a read-only live view, see {@link #asMap()}.
+ */
+final class AxisStore {
+  private static final int INITIAL_CAPACITY = 8;
+
+  private final HashMap<String, Integer> index;
+  private final Map<String, Float>       map;
+  private       String[]                 names;
+  private       float[]                  values;
+  private       int                      size;
+  private       float                    max;
+  private       boolean                  maxValid;
+
+  AxisStore() {
+    index = new HashMap<>();
+    map = new MapView();
+    names = new String[INITIAL_CAPACITY];
+    values = new float[INITIAL_CAPACITY];
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  String name(int i) {
+    return names[i];
+  }
+
+  float value(int i) {
+    return values[i];
+  }
+
+  /**
+   * Returns the backing name array, only the first {@link #size()} elements are meaningful.
+   */
+  String[] names() {
+    return names;
+  }
+
+  /**
+   * Returns the backing value array, only the first {@link #size()} elements are meaningful.
+   */
+  float[] values() {
+    return values;
+  }
+
+  int indexOf(String name) {
+    final Integer i = index.get(name);
+    return i == null ? -1 : i;
+  }
+
+  /**
+   * Returns the largest value, recomputed only after the previous maximum has been lowered or removed.
+   */
+  float max() {
+    if (!maxValid) {
+      max = values[0];
+      for (int i = 1; i < size; i++) {
+        if (values[i] > max) {
+          max = values[i];
+        }
+      }
+      maxValid = size > 0;
+    }
+    return max;
+  }
+
+  /**
+   * Returns {@code true} if a new axis has been added.
+   */
+  boolean put(String name, float value) {
+    final int i = indexOf(name);
+    if (i >= 0) {
+      if (values[i] == max && value < max) {
+        maxValid = false;
+      }
+      values[i] = value;
+      onValueSet(value);
+      return false;
+    }
+    ensureCapacity(size + 1);
+    names[size] = name;
+    values[size] = value;
+    index.put(name, size++);
+    onValueSet(value);
+    return true;
+  }
+
+  /**
+   * Returns {@code true} if the axis existed.
+   */
+  boolean remove(String name) {
+    final int i = indexOf(name);
+    if (i < 0) {
+      return false;
+    }
+    index.remove(name);
+    if (values[i] == max) {
+      maxValid = false;
+    }
+    final int tail = size - i - 1;
+    System.arraycopy(names, i + 1, names, i, tail);
+    System.arraycopy(values, i + 1, values, i, tail);
+    names[--size] = null;
+    for (int j = i; j < size; j++) {
+      index.put(names[j], j);
+    }
+    return true;
+  }
+
+  void clear() {
+    for (int i = 0; i < size; i++) {
+      names[i] = null;
+    }
+    index.clear();
+    size = 0;
+    maxValid = false;
+  }
+
+  void set(String[] names, float[] values) {
+    if (names.length != values.length) {
+      throw new IllegalArgumentException("names.length = " + names.length + ", values.length = " + values.length);
+    }
+    clear();
+    ensureCapacity(names.length);
+    for (int i = 0; i < names.length; i++) {
+      put(names[i], values[i]);
+    }
+  }
+
+  void setValues(float[] values) {
+    if (values.length != size) {
+      throw new IllegalArgumentException("Expected " + size + " values, got " + values.length);
+    }
+    System.arraycopy(values, 0, this.values, 0, size);
+    maxValid = false;
+  }
+
+  Map<String, Float> asMap() {
+    return map;
+  }
+
+  private void onValueSet(float value) {
+    if (size == 1) {
+      max = value;
+      maxValid = true;
+    } else if (maxValid && value > max) {
+      max = value;
+    }
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity > names.length) {
+      final int length = Math.max(capacity, names.length << 1);
+      final String[] newNames = new String[length];
+      final float[] newValues = new float[length];
+      System.arraycopy(names, 0, newNames, 0, size);
+      System.arraycopy(values, 0, newValues, 0, size);
+      names = newNames;
+      values = newValues;
+    }
+  }
+
+  private final class MapView extends AbstractMap<String, Float> {
+    private final Set<Entry<String, Float>> entries = new AbstractSet<Entry<String, Float>>() {
+      @Override public Iterator<Entry<String, Float>> iterator() {
+        return new Iterator<Entry<String, Float>>() {
+          private int next;
+
+          @Override public boolean hasNext() {
+            return next < size;
+          }
+
+          @Override public Entry<String, Float> next() {
+            if (next >= size) {
+              throw new NoSuchElementException();
+            }
+            final int i = next++;
+            return new SimpleImmutableEntry<>(names[i], values[i]);
+          }
+
+          @Override public void remove() {
+            throw new UnsupportedOperationException();
+          }
+        };
+      }
+
+      @Override public int size() {
+        return size;
+      }
+    };
+
+    @Override public Set<Entry<String, Float>> entrySet() {
+      return entries;
+    }
+
+    @Override public boolean containsKey(Object key) {
+      return index.containsKey(key);
+    }
+
+    @Override public Float get(Object key) {
+      final Integer i = index.get(key);
+      return i == null ? null : values[i];
+    }
+
+    @Override public int size() {
+      return size;
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.dzaitsev.android.widget;
+
+/**
+ * ARGB color math without any {@code android.*} dependency, so that on-device and headless output agree bit for bit.
+ */
+@SuppressWarnings("NumericCastThatLosesPrecision") //
+final class Colors {
+  private Colors() {
+  }
+
+  /**
+   * Returns the color {@code factor / steps} of the way from {@code startColor} to {@code endColor}.
+   */
+  static int gradient(int startColor, int endColor, int factor, int steps) {
+    final float ratio = (float) factor / steps;
+    final int alpha = between(startColor >>> 24, endColor >>> 24, ratio);
+    final int red = between(startColor >> 16 & 0xFF, endColor >> 16 & 0xFF, ratio);
+    final int green = between(startColor >> 8 & 0xFF, endColor >> 8 & 0xFF, ratio);
+    final int blue = between(startColor & 0xFF, endColor & 0xFF, ratio);
+    return alpha << 24 | red << 16 | green << 8 | blue;
+  }
+
+  private static int between(int start, int end, float ratio) {
+    return (int) (end * ratio + start * (1 - ratio));
+  }
+}
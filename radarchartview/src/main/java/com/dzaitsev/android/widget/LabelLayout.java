@@ -0,0 +1,68 @@
+package com.dzaitsev.android.widget;
+
+/**
+ * Cached axis label metrics and positions. Labels are measured by the caller, placed once per layout and read by index
+ * while drawing.
+ */
+final class LabelLayout {
+  private static final int MAX_NUDGES = 8;
+
+  float[] widths  = new float[0];
+  float[] heights = new float[0];
+  float[] x       = new float[0];
+  float[] y       = new float[0];
+  int     count;
+
+  void setCount(int count) {
+    this.count = count;
+    widths = RadarGeometry.ensure(widths, count);
+    heights = RadarGeometry.ensure(heights, count);
+    x = RadarGeometry.ensure(x, count);
+    y = RadarGeometry.ensure(y, count);
+  }
+
+  float maxHeight() {
+    float max = 0;
+    for (int i = 0; i < count; i++) {
+      if (heights[i] > max) {
+        max = heights[i];
+      }
+    }
+    return max;
+  }
+
+  /**
+   * Places every label next to the end of its spoke, {@code x, y} being the text baseline origin.
+   */
+  void place(float[] vertices, RadarGeometry.Angles angles, float centerX, float centerY, boolean avoidCollisions) {
+    for (int i = 0; i < count; i++) {
+      final float pointX = vertices[i + i];
+      final float pointY = vertices[i + i + 1];
+      x[i] = pointX > centerX ? pointX : pointX - widths[i];
+      y[i] = pointY > centerY ? pointY + heights[i] : pointY;
+    }
+    if (avoidCollisions && count > 1) {
+      for (int i = 1; i < count; i++) {
+        nudge(i, i - 1, angles);
+      }
+      if (count > 2) {
+        nudge(count - 1, 0, angles);
+      }
+    }
+  }
+
+  /**
+   * Moves label {@code i} outwards along its spoke until it no longer overlaps label {@code j}.
+   */
+  private void nudge(int i, int j, RadarGeometry.Angles angles) {
+    final float step = heights[i] * 0.5F;
+    for (int n = 0; n < MAX_NUDGES && overlap(i, j); n++) {
+      x[i] += angles.cos[i] * step;
+      y[i] += angles.sin[i] * step;
+    }
+  }
+
+  private boolean overlap(int i, int j) {
+    return x[i] < x[j] + widths[j] && x[j] < x[i] + widths[i] && y[i] - heights[i] < y[j] && y[j] - heights[j] < y[i];
+  }
+}
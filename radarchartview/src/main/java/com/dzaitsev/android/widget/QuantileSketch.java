@@ -0,0 +1,160 @@
+package com.dzaitsev.android.widget;
+
+import static java.util.Arrays.fill;
+
+/**
+ * Mergeable quantile sketch with a relative error guarantee, after DDSketch: every value falls into a logarithmic
+ * bucket {@code ceil(log(|x|) / log(gamma))}, so any quantile is off by at most {@code relativeAccuracy} of its value.
+ * <p>
+ * Buckets are dense {@code long} counts, a float range needs at most a few thousand of them no matter how many values
+ * are added. Merging adds the counts bucket by bucket, so sketches filled on different threads combine exactly. Has no
+ * {@code android.*} dependency and is not thread-safe.
+ */
+final class QuantileSketch {
+  /** Values closer to zero than this are counted as zero. */
+  private static final float MIN_INDEXABLE = Float.MIN_NORMAL;
+
+  private final double gamma;
+  private final double logGamma;
+  private final Store  positive = new Store();
+  private final Store  negative = new Store();
+  private long zeroCount;
+
+  QuantileSketch(float relativeAccuracy) {
+    if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+      throw new IllegalArgumentException("relativeAccuracy = " + relativeAccuracy);
+    }
+    gamma = (1.0 + relativeAccuracy) / (1.0 - relativeAccuracy);
+    logGamma = StrictMath.log(gamma);
+  }
+
+  long count() {
+    return positive.total + negative.total + zeroCount;
+  }
+
+  void add(float value) {
+    if (value > MIN_INDEXABLE) {
+      positive.add(index(value), 1);
+    } else if (value < -MIN_INDEXABLE) {
+      negative.add(index(-value), 1);
+    } else if (value == value) {
+      zeroCount++;
+    }
+  }
+
+  void merge(QuantileSketch other) {
+    if (other.gamma != gamma) {
+      throw new IllegalArgumentException("Cannot merge sketches of different accuracy");
+    }
+    positive.merge(other.positive);
+    negative.merge(other.negative);
+    zeroCount += other.zeroCount;
+  }
+
+  void clear() {
+    positive.clear();
+    negative.clear();
+    zeroCount = 0;
+  }
+
+  /**
+   * Returns the value at {@code quantile} in {@code [0, 1]}, {@code NaN} if the sketch is empty.
+   */
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  float quantile(double quantile) {
+    if (quantile < 0 || quantile > 1) {
+      throw new IllegalArgumentException("quantile = " + quantile);
+    }
+    final long count = count();
+    if (count == 0) {
+      return Float.NaN;
+    }
+    final long rank = (long) (quantile * (count - 1));
+    if (rank < negative.total) {
+      return (float) -value(negative.indexAt(negative.total - 1 - rank));
+    }
+    if (rank < negative.total + zeroCount) {
+      return 0;
+    }
+    return (float) value(positive.indexAt(rank - negative.total - zeroCount));
+  }
+
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  private int index(float value) {
+    return (int) StrictMath.ceil(StrictMath.log(value) / logGamma);
+  }
+
+  /**
+   * Returns the value representing bucket {@code index}, equally far in relative terms from both bucket bounds.
+   */
+  private double value(int index) {
+    return 2 * StrictMath.pow(gamma, index) / (gamma + 1);
+  }
+
+  /**
+   * Dense bucket counts, {@code counts[i]} being the count of bucket {@code offset + i}.
+   */
+  private static final class Store {
+    long[] counts = new long[0];
+    int    offset;
+    long   total;
+
+    void add(int index, long count) {
+      ensure(index, index);
+      counts[index - offset] += count;
+      total += count;
+    }
+
+    void merge(Store other) {
+      if (other.total == 0) {
+        return;
+      }
+      ensure(other.offset, other.offset + other.counts.length - 1);
+      final int shift = other.offset - offset;
+      for (int i = 0; i < other.counts.length; i++) {
+        counts[shift + i] += other.counts[i];
+      }
+      total += other.total;
+    }
+
+    void clear() {
+      fill(counts, 0);
+      total = 0;
+    }
+
+    /**
+     * Returns the bucket holding the value of {@code rank}, counting from the lowest bucket.
+     */
+    int indexAt(long rank) {
+      long seen = 0;
+      for (int i = 0; i < counts.length; i++) {
+        seen += counts[i];
+        if (seen > rank) {
+          return offset + i;
+        }
+      }
+      return offset + counts.length - 1;
+    }
+
+    private void ensure(int min, int max) {
+      if (counts.length == 0) {
+        counts = new long[max - min + 1];
+        offset = min;
+        return;
+      }
+      final int low = Math.min(min, offset);
+      final int high = Math.max(max, offset + counts.length - 1);
+      if (low == offset && high == offset + counts.length - 1) {
+        return;
+      }
+      // grow by at least half to keep appends amortized
+      final int extra = counts.length >> 1;
+      final int newLow = low < offset ? low - extra : offset;
+      final int newHigh = high > offset + counts.length - 1 ? high + extra : offset + counts.length - 1;
+      final long[] grown = new long[newHigh - newLow + 1];
+      System.arraycopy(counts, 0, grown, offset - newLow, counts.length);
+      counts = grown;
+      offset = newLow;
+    }
+  }
+}
@@ -0,0 +1,335 @@
+package com.dzaitsev.android.widget;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static java.lang.StrictMath.max;
+import static java.lang.StrictMath.min;
+import static java.util.Arrays.fill;
+
+/**
+ * Per-axis count, sum, mean, min, max and approximate percentiles of raw records, ready to be shown with
+ * {@link RadarChartView#setAxis(String[], float[])}.
+ * <p>
+ * Records are an axis index and a value, passed as primitive columns or pulled in chunks from a {@link RecordSource},
+ * so nothing is boxed. The parallel overloads give every task its own accumulator and merge them at the end; merging
+ * is exact for everything but the percentiles, which stay within the relative accuracy of a {@link QuantileSketch}.
+ * Has no {@code android.*} dependency, so the same code runs on devices and in backend jobs. Not thread-safe.
+ */
+public final class RadarAggregation {
+  public static final int   SUM                = 0;
+  public static final int   MEAN               = 1;
+  public static final int   MIN                = 2;
+  public static final int   MAX                = 3;
+  public static final int   COUNT              = 4;
+  /** Default relative accuracy of the percentiles. */
+  public static final float DEFAULT_ACCURACY   = 0.01F;
+  /** Records read from a {@link RecordSource} at a time. */
+  public static final int   DEFAULT_CHUNK_SIZE = 4096;
+
+  final String[]         names;
+  final long[]           counts;
+  final double[]         sums;
+  final float[]          mins;
+  final float[]          maxs;
+  final QuantileSketch[] sketches;
+
+  private final float relativeAccuracy;
+
+  public RadarAggregation(String[] names) {
+    this(names, DEFAULT_ACCURACY);
+  }
+
+  /**
+   * Creates an empty aggregation over the axes {@code names}, a record's axis being an index into it.
+   */
+  public RadarAggregation(String[] names, float relativeAccuracy) {
+    this.names = names.clone();
+    this.relativeAccuracy = relativeAccuracy;
+    final int count = names.length;
+    counts = new long[count];
+    sums = new double[count];
+    mins = new float[count];
+    maxs = new float[count];
+    sketches = new QuantileSketch[count];
+    for (int i = 0; i < count; i++) {
+      sketches[i] = new QuantileSketch(relativeAccuracy);
+    }
+    fill(mins, Float.POSITIVE_INFINITY);
+    fill(maxs, Float.NEGATIVE_INFINITY);
+  }
+
+  public int size() {
+    return names.length;
+  }
+
+  public String[] names() {
+    return names.clone();
+  }
+
+  /**
+   * Returns the index of an axis to use in records, {@code -1} if there is no such axis.
+   */
+  public int indexOf(String name) {
+    for (int i = 0; i < names.length; i++) {
+      if (names[i].equals(name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Adds a record, {@code value} must be finite: infinities and {@code NaN} have no percentile bucket.
+   */
+  public void add(int axis, float value) {
+    // NaN for infinities and NaN only
+    if (value - value != 0) {
+      throw new IllegalArgumentException("value = " + value);
+    }
+    counts[axis]++;
+    sums[axis] += value;
+    mins[axis] = min(mins[axis], value);
+    maxs[axis] = max(maxs[axis], value);
+    sketches[axis].add(value);
+  }
+
+  /**
+   * Adds one record per axis, {@code values} being in axis order, e.g. a sample of a live stream.
+   */
+  public void addSample(float[] values) {
+    if (values.length != names.length) {
+      throw new IllegalArgumentException("Expected " + names.length + " values, got " + values.length);
+    }
+    for (int i = 0; i < values.length; i++) {
+      add(i, values[i]);
+    }
+  }
+
+  /**
+   * Adds the records {@code from} (inclusive) to {@code to} (exclusive) of the parallel columns {@code axes} and
+   * {@code values}.
+   */
+  public void addAll(int[] axes, float[] values, int from, int to) {
+    for (int i = from; i < to; i++) {
+      add(axes[i], values[i]);
+    }
+  }
+
+  /**
+   * Adds all records of the parallel columns {@code axes} and {@code values}, split into {@code tasks} ranges
+   * aggregated on {@code executor}. Blocks until all of them are done. If a task fails its exception is rethrown and
+   * this aggregation is left unchanged.
+   */
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  public void addAll(final int[] axes, final float[] values, ExecutorService executor, int tasks)
+      throws InterruptedException {
+    if (axes.length != values.length) {
+      throw new IllegalArgumentException("Got " + axes.length + " axes and " + values.length + " values");
+    }
+    final int length = axes.length;
+    final List<Callable<RadarAggregation>> jobs = new ArrayList<Callable<RadarAggregation>>(tasks);
+    for (int task = 0; task < tasks; task++) {
+      final int from = (int) ((long) length * task / tasks);
+      final int to = (int) ((long) length * (task + 1) / tasks);
+      jobs.add(new Callable<RadarAggregation>() {
+        @Override public RadarAggregation call() {
+          final RadarAggregation part = emptyCopy();
+          part.addAll(axes, values, from, to);
+          return part;
+        }
+      });
+    }
+    mergeAll(executor.invokeAll(jobs));
+  }
+
+  /**
+   * Drains {@code source} on the calling thread in chunks of {@link #DEFAULT_CHUNK_SIZE} records.
+   */
+  public void addAll(RecordSource source) {
+    final int[] axes = new int[DEFAULT_CHUNK_SIZE];
+    final float[] values = new float[DEFAULT_CHUNK_SIZE];
+    int read;
+    while ((read = source.read(axes, values)) >= 0) {
+      addAll(axes, values, 0, read);
+    }
+  }
+
+  /**
+   * Drains {@code source} with {@code tasks} workers on {@code executor}. Each worker owns its chunk buffers and its
+   * accumulator and reads the next chunk as soon as it is done with the last one, the reads are serialized so the
+   * source needs no synchronization of its own. Blocks until the source is exhausted. If a task fails, e.g. because
+   * the source threw, its exception is rethrown and this aggregation is left unchanged.
+   */
+  public void addAll(final RecordSource source, ExecutorService executor, int tasks, final int chunkSize)
+      throws InterruptedException {
+    final List<Callable<RadarAggregation>> jobs = new ArrayList<Callable<RadarAggregation>>(tasks);
+    for (int task = 0; task < tasks; task++) {
+      jobs.add(new Callable<RadarAggregation>() {
+        @Override public RadarAggregation call() {
+          final RadarAggregation part = emptyCopy();
+          final int[] axes = new int[chunkSize];
+          final float[] values = new float[chunkSize];
+          while (true) {
+            final int read;
+            //noinspection SynchronizationOnLocalVariableOrMethodParameter
+            synchronized (source) {
+              read = source.read(axes, values);
+            }
+            if (read < 0) {
+              return part;
+            }
+            part.addAll(axes, values, 0, read);
+          }
+        }
+      });
+    }
+    mergeAll(executor.invokeAll(jobs));
+  }
+
+  /**
+   * Adds the records of {@code other}, which must aggregate the same axes with the same accuracy.
+   */
+  public void merge(RadarAggregation other) {
+    if (other.names.length != names.length) {
+      throw new IllegalArgumentException("Expected " + names.length + " axes, got " + other.names.length);
+    }
+    for (int i = 0; i < names.length; i++) {
+      counts[i] += other.counts[i];
+      sums[i] += other.sums[i];
+      mins[i] = min(mins[i], other.mins[i]);
+      maxs[i] = max(maxs[i], other.maxs[i]);
+      sketches[i].merge(other.sketches[i]);
+    }
+  }
+
+  public void clear() {
+    fill(counts, 0);
+    fill(sums, 0);
+    fill(mins, Float.POSITIVE_INFINITY);
+    fill(maxs, Float.NEGATIVE_INFINITY);
+    for (final QuantileSketch sketch : sketches) {
+      sketch.clear();
+    }
+  }
+
+  public long getCount(int axis) {
+    return counts[axis];
+  }
+
+  public double getSum(int axis) {
+    return sums[axis];
+  }
+
+  /**
+   * Returns the mean of an axis, {@code NaN} if it has no records; the same goes for the other statistics.
+   */
+  public double getMean(int axis) {
+    return counts[axis] == 0 ? Double.NaN : sums[axis] / counts[axis];
+  }
+
+  public float getMin(int axis) {
+    return counts[axis] == 0 ? Float.NaN : mins[axis];
+  }
+
+  public float getMax(int axis) {
+    return counts[axis] == 0 ? Float.NaN : maxs[axis];
+  }
+
+  /**
+   * Returns the value at {@code quantile} in {@code [0, 1]} of an axis, e.g. {@code 0.95} for the 95th percentile.
+   */
+  public float getPercentile(int axis, double quantile) {
+    return sketches[axis].quantile(quantile);
+  }
+
+  /**
+   * Returns one of {@link #SUM}, {@link #MEAN}, {@link #MIN}, {@link #MAX} or {@link #COUNT} per axis, axes without
+   * records being {@code 0} so the result can go straight into a chart.
+   */
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  public float[] values(int statistic) {
+    final float[] values = new float[names.length];
+    for (int i = 0; i < values.length; i++) {
+      if (counts[i] == 0) {
+        continue;
+      }
+      switch (statistic) {
+        case SUM:
+          values[i] = (float) sums[i];
+          break;
+        case MEAN:
+          values[i] = (float) (sums[i] / counts[i]);
+          break;
+        case MIN:
+          values[i] = mins[i];
+          break;
+        case MAX:
+          values[i] = maxs[i];
+          break;
+        case COUNT:
+          values[i] = counts[i];
+          break;
+        default:
+          throw new IllegalArgumentException("statistic = " + statistic);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Returns the value at {@code quantile} per axis, axes without records being {@code 0}.
+   */
+  public float[] percentiles(double quantile) {
+    final float[] values = new float[names.length];
+    for (int i = 0; i < values.length; i++) {
+      if (counts[i] != 0) {
+        values[i] = sketches[i].quantile(quantile);
+      }
+    }
+    return values;
+  }
+
+  private RadarAggregation emptyCopy() {
+    return new RadarAggregation(names, relativeAccuracy);
+  }
+
+  /**
+   * Merges the results of all tasks, or none of them if any task failed.
+   */
+  private void mergeAll(List<Future<RadarAggregation>> parts) throws InterruptedException {
+    final List<RadarAggregation> results = new ArrayList<RadarAggregation>(parts.size());
+    for (final Future<RadarAggregation> part : parts) {
+      try {
+        results.add(part.get());
+      } catch (ExecutionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw new IllegalStateException(cause);
+      }
+    }
+    for (final RadarAggregation result : results) {
+      merge(result);
+    }
+  }
+
+  /**
+   * Streams records in chunks, e.g. from a cursor or a file.
+   */
+  public interface RecordSource {
+    /**
+     * Fills {@code axes} and {@code values} from the start with up to {@code axes.length} records and returns how
+     * many were read, {@code -1} once there are no more.
+     */
+    int read(int[] axes, float[] values);
+  }
+}
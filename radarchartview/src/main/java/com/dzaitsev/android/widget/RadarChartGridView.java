@@ -0,0 +1,452 @@
+package com.dzaitsev.android.widget;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Rect;
+import android.os.Build;
+import android.util.AttributeSet;
+import android.view.MotionEvent;
+import android.view.VelocityTracker;
+import android.view.View;
+import android.view.ViewConfiguration;
+import android.view.ViewParent;
+import android.widget.OverScroller;
+
+import static java.lang.StrictMath.abs;
+import static java.lang.StrictMath.max;
+import static java.lang.StrictMath.min;
+
+/**
+ * Small multiples: many radar charts over the same axes, laid out in a grid and scrolled inside a single view.
+ * <p>
+ * All cells share one frame, so one angle table, one ring grid, one set of spokes and labels and one set of paints
+ * serve any number of charts. The grid and the axis are cached once as the cell background, every visible cell is that
+ * background translated into place plus the cell's own value polygon. Cells outside the clip are skipped, so the cost
+ * of a frame depends on the visible cells only. All cells are drawn to one scale to keep them comparable, auto-sized
+ * to the largest value of any cell.
+ */
+@SuppressWarnings("ClassWithTooManyFields")
+public class RadarChartGridView extends View {
+  private static final int DEFAULT_COLUMNS = 3;
+
+  private final RadarFrame   frame;
+  private final StaticLayer  background;
+  private final OverScroller scroller;
+  private final Rect         clip;
+  private final int          touchSlop;
+  private final int          minFlingVelocity;
+  private final int          maxFlingVelocity;
+
+  private String[]        names       = new String[0];
+  private float[]         values      = new float[0];
+  private int             cellCount;
+  private int             columnCount = DEFAULT_COLUMNS;
+  private int             cellPadding;
+  private int             cellSize;
+  private float           axisMax;
+  private float           dataMax     = Float.NEGATIVE_INFINITY;
+  private int             dataMaxAt   = -1;
+  private float           axisTick;
+  private boolean         autoSize;
+  private boolean         layoutDirty = true;
+  private VelocityTracker velocityTracker;
+  private float           lastY;
+  private boolean         dragging;
+
+  public RadarChartGridView(Context context) {
+    this(context, (AttributeSet) null);
+  }
+
+  public RadarChartGridView(Context context, AttributeSet attrs) {
+    this(context, attrs, 0);
+  }
+
+  public RadarChartGridView(Context context, AttributeSet attrs, int defStyleAttr) {
+    this(context, attrs, defStyleAttr, RadarChartStyle.obtain(context, attrs, defStyleAttr));
+  }
+
+  /**
+   * Creates a grid with a shared, already resolved style and without parsing any attributes.
+   */
+  public RadarChartGridView(Context context, RadarChartStyle style) {
+    this(context, null, 0, style);
+  }
+
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  private RadarChartGridView(Context context, AttributeSet attrs, int defStyleAttr, RadarChartStyle style) {
+    super(context, attrs, defStyleAttr);
+    frame = new RadarFrame(style.textPaint, style.paint);
+    background = new StaticLayer();
+    scroller = new OverScroller(context);
+    clip = new Rect();
+    final ViewConfiguration configuration = ViewConfiguration.get(context);
+    touchSlop = configuration.getScaledTouchSlop();
+    minFlingVelocity = configuration.getScaledMinimumFlingVelocity();
+    maxFlingVelocity = configuration.getScaledMaximumFlingVelocity();
+    cellPadding = (int) (style.textSize * 2);
+    applyStyle(style);
+  }
+
+  /**
+   * Replaces every cell. {@code values} holds {@code names.length} values per cell, cell after cell, so the cell count
+   * is {@code values.length / names.length}.
+   */
+  public final void setCells(String[] names, float[] values) {
+    if (names.length == 0 ? values.length != 0 : values.length % names.length != 0) {
+      throw new IllegalArgumentException(values.length + " values do not fill cells of " + names.length + " axes");
+    }
+    this.names = names.clone();
+    this.values = values.clone();
+    cellCount = names.length == 0 ? 0 : values.length / names.length;
+    scanMax(0, this.values.length);
+    updateScale();
+    layoutDirty = true;
+    requestLayout();
+    invalidate();
+  }
+
+  /**
+   * Replaces the values of one cell, one per axis in axis order. Only that cell is redrawn unless the auto-sized
+   * scale changes.
+   */
+  public final void setCellValues(int cell, float[] cellValues) {
+    final int count = names.length;
+    if (cell < 0 || cell >= cellCount) {
+      throw new IndexOutOfBoundsException("cell = " + cell + ", cellCount = " + cellCount);
+    }
+    if (cellValues.length != count) {
+      throw new IllegalArgumentException("Expected " + count + " values, got " + cellValues.length);
+    }
+    final int from = cell * count;
+    System.arraycopy(cellValues, 0, values, from, count);
+    if (dataMaxAt >= from && dataMaxAt < from + count && values[dataMaxAt] < dataMax) {
+      // the cell held the maximum and lowered it
+      scanMax(0, values.length);
+    } else {
+      scanMax(from, from + count);
+    }
+    if (updateScale()) {
+      layoutDirty = true;
+      invalidate();
+    } else {
+      final int x = cellLeft(cell);
+      final int y = cellTop(cell);
+      invalidate(x, y, x + cellSize, y + cellSize);
+    }
+  }
+
+  public final int getCellCount() {
+    return cellCount;
+  }
+
+  public final int getAxisCount() {
+    return names.length;
+  }
+
+  /**
+   * Returns the cell under {@code x, y} in view coordinates, {@code -1} if there is none.
+   */
+  public final int cellAt(float x, float y) {
+    if (cellSize == 0) {
+      return -1;
+    }
+    final float contentX = x - getPaddingLeft();
+    final float contentY = y + getScrollY() - getPaddingTop();
+    if (contentX < 0 || contentY < 0 || contentX >= cellSize * columnCount) {
+      return -1;
+    }
+    @SuppressWarnings("NumericCastThatLosesPrecision") //
+    final int cell = (int) (contentY / cellSize) * columnCount + (int) (contentX / cellSize);
+    return cell < cellCount ? cell : -1;
+  }
+
+  public final int getColumnCount() {
+    return columnCount;
+  }
+
+  public final void setColumnCount(int columnCount) {
+    if (columnCount < 1) {
+      throw new IllegalArgumentException("columnCount = " + columnCount);
+    }
+    this.columnCount = columnCount;
+    layoutDirty = true;
+    requestLayout();
+    invalidate();
+  }
+
+  public final int getCellPadding() {
+    return cellPadding;
+  }
+
+  /**
+   * Sets the space between the outer ring and the cell edge, which the labels are drawn into.
+   */
+  public final void setCellPadding(int cellPadding) {
+    this.cellPadding = cellPadding;
+    layoutDirty = true;
+    invalidate();
+  }
+
+  /**
+   * Replaces the look of all cells at once.
+   */
+  public final void applyStyle(RadarChartStyle style) {
+    frame.setStyle(style);
+    axisMax = style.axisMax;
+    axisTick = style.axisTick;
+    autoSize = style.autoSize;
+    updateScale();
+    layoutDirty = true;
+    invalidate();
+  }
+
+  public final float getAxisMax() {
+    return axisMax;
+  }
+
+  public final void setAxisMax(float axisMax) {
+    this.axisMax = axisMax;
+    autoSize = false;
+    layoutDirty = true;
+    invalidate();
+  }
+
+  public final float getAxisTick() {
+    return axisTick;
+  }
+
+  public final void setAxisTick(float axisTick) {
+    if (!(axisTick > 0) || Float.isInfinite(axisTick)) {
+      throw new IllegalArgumentException("axisTick = " + axisTick);
+    }
+    this.axisTick = axisTick;
+    layoutDirty = true;
+    invalidate();
+  }
+
+  public final boolean isAutoSize() {
+    return autoSize;
+  }
+
+  public final void setAutoSize(boolean autoSize) {
+    this.autoSize = autoSize;
+    updateScale();
+    layoutDirty = true;
+    invalidate();
+  }
+
+  /**
+   * Scrolls the cells when they do not fit, a tap without a drag is a click. When nothing can scroll, touches get the
+   * default handling, so an unclickable grid leaves them to its parent.
+   */
+  @Override public boolean onTouchEvent(MotionEvent event) {
+    if (maxScroll() == 0 && velocityTracker == null) {
+      return super.onTouchEvent(event);
+    }
+    if (velocityTracker == null) {
+      velocityTracker = VelocityTracker.obtain();
+    }
+    velocityTracker.addMovement(event);
+    final float y = event.getY();
+    switch (event.getActionMasked()) {
+      case MotionEvent.ACTION_DOWN:
+        scroller.forceFinished(true);
+        lastY = y;
+        dragging = false;
+        return true;
+      case MotionEvent.ACTION_MOVE:
+        if (!dragging && abs(y - lastY) > touchSlop) {
+          dragging = true;
+          lastY = y;
+          final ViewParent parent = getParent();
+          if (parent != null) {
+            parent.requestDisallowInterceptTouchEvent(true);
+          }
+        }
+        if (dragging) {
+          @SuppressWarnings("NumericCastThatLosesPrecision") //
+          final int delta = (int) (lastY - y);
+          scrollBy(0, delta);
+          lastY -= delta;
+        }
+        return true;
+      case MotionEvent.ACTION_UP:
+        if (dragging) {
+          velocityTracker.computeCurrentVelocity(1000, maxFlingVelocity);
+          @SuppressWarnings("NumericCastThatLosesPrecision") //
+          final int velocity = (int) velocityTracker.getYVelocity();
+          if (abs(velocity) > minFlingVelocity) {
+            scroller.fling(0, getScrollY(), 0, -velocity, 0, 0, 0, maxScroll());
+            postInvalidateCompat();
+          }
+        } else {
+          performClick();
+        }
+        endDrag();
+        return true;
+      case MotionEvent.ACTION_CANCEL:
+        endDrag();
+        return true;
+      default:
+        return true;
+    }
+  }
+
+  /**
+   * Called for a tap on a scrollable grid as for any other click, so listeners and accessibility see the same event.
+   */
+  @Override public boolean performClick() {
+    return super.performClick();
+  }
+
+  @Override public void computeScroll() {
+    if (scroller.computeScrollOffset()) {
+      scrollTo(0, scroller.getCurrY());
+      if (!scroller.isFinished()) {
+        postInvalidateCompat();
+      }
+    }
+  }
+
+  @Override public void scrollTo(int x, int y) {
+    super.scrollTo(0, max(0, min(y, maxScroll())));
+  }
+
+  @Override protected int computeVerticalScrollRange() {
+    return contentHeight();
+  }
+
+  @Override protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+    final int width = MeasureSpec.getSize(widthMeasureSpec);
+    final int cell = max(0, (width - getPaddingLeft() - getPaddingRight()) / columnCount);
+    final int height = rowCount() * cell + getPaddingTop() + getPaddingBottom();
+    setMeasuredDimension(width, resolveSize(height, heightMeasureSpec));
+  }
+
+  @Override protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+    layoutDirty = true;
+    scrollTo(0, getScrollY());
+  }
+
+  @Override protected void onDraw(Canvas canvas) {
+    validate();
+    if (!frame.isReady() || cellCount == 0 || !canvas.getClipBounds(clip)) {
+      return;
+    }
+    if (!background.isValid()) {
+      final Canvas layer = background.begin(canvas, cellSize, cellSize);
+      RadarChartRenderer.drawGrid(layer, frame);
+      RadarChartRenderer.drawAxis(layer, frame);
+      background.end();
+    }
+    final int top = getPaddingTop();
+    final int firstRow = max(0, (clip.top - top) / cellSize);
+    final int lastRow = (clip.bottom - top) / cellSize;
+    final int end = min(cellCount, (lastRow + 1) * columnCount);
+    final int axisCount = names.length;
+    for (int cell = firstRow * columnCount; cell < end; cell++) {
+      final int x = cellLeft(cell);
+      if (x >= clip.right || x + cellSize <= clip.left) {
+        continue;
+      }
+      final int saveCount = canvas.save();
+      canvas.translate(x, cellTop(cell));
+      background.draw(canvas);
+      frame.buildPath(frame.valuesPath, values, cell * axisCount);
+      RadarChartRenderer.drawValues(canvas, frame);
+      canvas.restoreToCount(saveCount);
+    }
+  }
+
+  @Override protected void onDetachedFromWindow() {
+    super.onDetachedFromWindow();
+    scroller.abortAnimation();
+    background.release();
+  }
+
+  /**
+   * Rebuilds the shared cell geometry if the size, the axes, the scale or the style have changed.
+   */
+  private void validate() {
+    if (!layoutDirty) {
+      return;
+    }
+    cellSize = max(0, (getWidth() - getPaddingLeft() - getPaddingRight()) / columnCount);
+    frame.setBounds(cellSize, cellSize, cellPadding, cellPadding, cellPadding, cellPadding);
+    frame.setAxisCount(names.length);
+    frame.setScale(axisMax, axisTick);
+    if (!frame.isReady()) {
+      return;
+    }
+    layoutDirty = false;
+    frame.buildVertices();
+    frame.buildSpokes();
+    frame.measureLabels(names, names.length);
+    frame.placeLabels();
+    frame.setSeriesStyles(0, null, null, null);
+    background.invalidate();
+  }
+
+  /**
+   * Applies the largest value to the auto-sized scale, returns {@code true} if it has changed.
+   */
+  private boolean updateScale() {
+    if (!autoSize || values.length == 0 || dataMax == axisMax) {
+      return false;
+    }
+    axisMax = dataMax;
+    return true;
+  }
+
+  /**
+   * Raises the largest value to the largest of {@code values[from..to)}, starting over if that is all of them.
+   */
+  private void scanMax(int from, int to) {
+    if (from == 0 && to == values.length) {
+      dataMax = Float.NEGATIVE_INFINITY;
+      dataMaxAt = -1;
+    }
+    for (int i = from; i < to; i++) {
+      if (values[i] > dataMax) {
+        dataMax = values[i];
+        dataMaxAt = i;
+      }
+    }
+  }
+
+  private int cellLeft(int cell) {
+    return getPaddingLeft() + cell % columnCount * cellSize;
+  }
+
+  private int cellTop(int cell) {
+    return getPaddingTop() + cell / columnCount * cellSize;
+  }
+
+  private int rowCount() {
+    return (cellCount + columnCount - 1) / columnCount;
+  }
+
+  private int contentHeight() {
+    return rowCount() * cellSize + getPaddingTop() + getPaddingBottom();
+  }
+
+  private int maxScroll() {
+    return max(0, contentHeight() - getHeight());
+  }
+
+  private void endDrag() {
+    dragging = false;
+    if (velocityTracker != null) {
+      velocityTracker.recycle();
+      velocityTracker = null;
+    }
+  }
+
+  private void postInvalidateCompat() {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+      postInvalidateOnAnimation();
+    } else {
+      invalidate();
+    }
+  }
+}
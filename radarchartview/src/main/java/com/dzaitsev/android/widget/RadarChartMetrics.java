@@ -0,0 +1,177 @@
+package com.dzaitsev.android.widget;
+
+import java.util.Arrays;
+
+/**
+ * Per-phase timings and counters of one {@link RadarChartView}, collected only while a {@link Listener} is set.
+ * <p>
+ * Every phase keeps the duration of its last run and a histogram with power-of-two nanosecond buckets, so recording
+ * never allocates. Counters and histograms grow until {@link #reset()}. Not thread-safe, read it on the UI thread,
+ * e.g. from {@link Listener#onFrame(RadarChartMetrics)}.
+ * <p>
+ * Everything is recorded inside {@code onDraw}: a rebuild forced between frames, e.g. by a hit test, is neither timed
+ * nor counted.
+ */
+public final class RadarChartMetrics {
+  /** Center and radius after a size change. */
+  public static final int PHASE_SIZE        = 0;
+  /** Ring radii and colors, formerly {@code buildRings}. */
+  public static final int PHASE_RINGS       = 1;
+  /** Ring vertices. */
+  public static final int PHASE_VERTICES    = 2;
+  /** Spokes and outer vertices. */
+  public static final int PHASE_SPOKES      = 3;
+  /** Label measuring and placement. */
+  public static final int PHASE_LABELS      = 4;
+  /** Value and series paths. */
+  public static final int PHASE_VALUES      = 5;
+  /** Recording the ring layer, only in frames where it was invalid; replaying it is not timed. */
+  public static final int PHASE_DRAW_GRID   = 6;
+  /** Drawing the history, band, value and series paths. */
+  public static final int PHASE_DRAW_VALUES = 7;
+  /** Recording the spokes and labels layer, only in frames where it was invalid; replaying it is not timed. */
+  public static final int PHASE_DRAW_AXIS   = 8;
+  /** The whole {@code onDraw}, including the phases above, the layer replays and the highlight. */
+  public static final int PHASE_FRAME       = 9;
+  public static final int PHASE_COUNT       = 10;
+
+  private static final String[] PHASE_NAMES = {
+      "size", "rings", "vertices", "spokes", "labels", "values", "drawGrid", "drawValues", "drawAxis", "frame"
+  };
+  private static final int      BUCKETS     = 64;
+
+  private final long[]   last    = new long[PHASE_COUNT];
+  private final long[]   counts  = new long[PHASE_COUNT];
+  private final long[]   totals  = new long[PHASE_COUNT];
+  private final long[]   maxima  = new long[PHASE_COUNT];
+  private final long[][] buckets = new long[PHASE_COUNT][BUCKETS];
+  private       long     rebuilds;
+  private       long     invalidates;
+  private       long     pathsDrawn;
+
+  public static String phaseName(int phase) {
+    return PHASE_NAMES[phase];
+  }
+
+  /**
+   * Returns the duration of the last run of {@code phase}, {@code 0} if it did not run in the last frame.
+   */
+  public long getLastNanos(int phase) {
+    return last[phase];
+  }
+
+  public long getCount(int phase) {
+    return counts[phase];
+  }
+
+  public long getTotalNanos(int phase) {
+    return totals[phase];
+  }
+
+  public long getMaxNanos(int phase) {
+    return maxima[phase];
+  }
+
+  /**
+   * Returns an upper bound of the {@code percentile} (0..100) duration of {@code phase}, exact to a factor of two.
+   */
+  public long getPercentileNanos(int phase, double percentile) {
+    final long count = counts[phase];
+    if (count == 0) {
+      return 0;
+    }
+    final long rank = (long) Math.ceil(count * percentile / 100);
+    final long[] histogram = buckets[phase];
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += histogram[i];
+      if (seen >= rank && seen > 0) {
+        return Math.min(i == 0 ? 0 : (1L << i) - 1, maxima[phase]);
+      }
+    }
+    return maxima[phase];
+  }
+
+  /**
+   * Returns how many times the geometry was rebuilt, i.e. how many frames found something dirty.
+   */
+  public long getRebuilds() {
+    return rebuilds;
+  }
+
+  public long getInvalidates() {
+    return invalidates;
+  }
+
+  /**
+   * Returns how many paths, circles and line batches were drawn or recorded into the cached layers.
+   */
+  public long getPathsDrawn() {
+    return pathsDrawn;
+  }
+
+  public void reset() {
+    for (int i = 0; i < PHASE_COUNT; i++) {
+      last[i] = 0;
+      counts[i] = 0;
+      totals[i] = 0;
+      maxima[i] = 0;
+      Arrays.fill(buckets[i], 0);
+    }
+    rebuilds = 0;
+    invalidates = 0;
+    pathsDrawn = 0;
+  }
+
+  @Override public String toString() {
+    final StringBuilder builder = new StringBuilder("RadarChartMetrics{");
+    for (int i = 0; i < PHASE_COUNT; i++) {
+      if (counts[i] > 0) {
+        builder.append(PHASE_NAMES[i])
+            .append("={n=").append(counts[i])
+            .append(", avg=").append(totals[i] / counts[i])
+            .append(", p99=").append(getPercentileNanos(i, 99))
+            .append(", max=").append(maxima[i])
+            .append("}, ");
+      }
+    }
+    return builder.append("rebuilds=").append(rebuilds)
+        .append(", invalidates=").append(invalidates)
+        .append(", pathsDrawn=").append(pathsDrawn)
+        .append('}')
+        .toString();
+  }
+
+  void beginFrame() {
+    Arrays.fill(last, 0);
+  }
+
+  void record(int phase, long nanos) {
+    last[phase] = nanos;
+    counts[phase]++;
+    totals[phase] += nanos;
+    if (nanos > maxima[phase]) {
+      maxima[phase] = nanos;
+    }
+    buckets[phase][nanos <= 0 ? 0 : BUCKETS - Long.numberOfLeadingZeros(nanos)]++;
+  }
+
+  void onRebuild() {
+    rebuilds++;
+  }
+
+  void onInvalidate() {
+    invalidates++;
+  }
+
+  void onPathsDrawn(int count) {
+    pathsDrawn += count;
+  }
+
+  public interface Listener {
+    /**
+     * Called at the end of every {@code onDraw} with the metrics collected so far.
+     */
+    void onFrame(RadarChartMetrics metrics);
+  }
+}
@@ -0,0 +1,227 @@
+package com.dzaitsev.android.widget;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+
+import static android.graphics.Color.BLACK;
+import static android.graphics.Paint.Style.FILL;
+import static android.graphics.Paint.Style.STROKE;
+import static com.dzaitsev.android.widget.Utils.mutatePaint;
+import static java.lang.StrictMath.PI;
+import static java.lang.StrictMath.cos;
+
+/**
+ * Draws radar charts onto any {@link Canvas}, including {@link Bitmap}-backed ones on worker threads.
+ * <p>
+ * A renderer is stateless from the caller's point of view and may be shared: every thread lays out snapshots in its
+ * own retained frame, so concurrent calls never contend and repeated calls on one thread reuse their buffers.
+ */
+public final class RadarChartRenderer {
+  /** Rings whose vertices are closer than this many pixels are drawn as circles. */
+  private static final float MIN_VERTEX_SPACING = 2;
+
+  private final ThreadLocal<RadarFrame> frames = new ThreadLocal<RadarFrame>() {
+    @Override protected RadarFrame initialValue() {
+      return new RadarFrame();
+    }
+  };
+
+  public void draw(Canvas canvas, RadarChartSnapshot snapshot) {
+    final RadarFrame frame = frames.get();
+    layout(frame, snapshot);
+    if (frame.isReady()) {
+      drawGrid(canvas, frame);
+      drawValues(canvas, frame);
+      drawAxis(canvas, frame);
+    }
+  }
+
+  /**
+   * Returns a new {@code ARGB_8888} bitmap of the snapshot size with the chart drawn into it.
+   */
+  public Bitmap render(RadarChartSnapshot snapshot) {
+    final Bitmap bitmap = Bitmap.createBitmap(snapshot.width, snapshot.height, Bitmap.Config.ARGB_8888);
+    draw(new Canvas(bitmap), snapshot);
+    return bitmap;
+  }
+
+  /**
+   * Draws the rings and returns the number of shapes drawn, as do the other {@code draw*} methods.
+   */
+  static int drawGrid(Canvas canvas, RadarFrame frame) {
+    final int count = frame.angles.count;
+    if (frame.smoothGradient) {
+      drawGradient(canvas, frame, count < 3 || frame.circlesOnly);
+      return 1;
+    }
+    if (count < 3 || frame.circlesOnly) {
+      drawCircles(canvas, frame);
+    } else {
+      drawPolygons(canvas, frame, count);
+    }
+    return frame.rings.count;
+  }
+
+  static int drawValues(Canvas canvas, RadarFrame frame) {
+    final Paint paint = frame.paint;
+    mutatePaint(paint, frame.chartColor, frame.chartWidth, frame.chartStyle);
+    canvas.drawPath(frame.valuesPath, paint);
+    for (int i = 0; i < frame.seriesCount; i++) {
+      mutatePaint(paint, frame.seriesColors[i], frame.seriesWidths[i], RadarFrame.STYLES[frame.seriesStyles[i]]);
+      canvas.drawPath(frame.seriesPaths[i], paint);
+    }
+    return 1 + frame.seriesCount;
+  }
+
+  /**
+   * Fills the envelope between the lower and the upper band, one even-odd path however the bounds cross.
+   */
+  static int drawBand(Canvas canvas, RadarFrame frame) {
+    mutatePaint(frame.paint, frame.bandColor, 0, FILL);
+    canvas.drawPath(frame.bandPath, frame.paint);
+    return 1;
+  }
+
+  /**
+   * Draws past samples as ghost polygons behind the values, oldest first and faintest, reusing a single path.
+   */
+  static int drawHistory(Canvas canvas, RadarFrame frame, SampleHistory history) {
+    final int size = history.size();
+    final Path path = frame.historyPath;
+    final int color = frame.historyColor & 0xFFFFFF;
+    final int alpha = frame.historyColor >>> 24;
+    for (int age = size - 1; age >= 0; age--) {
+      frame.buildPath(path, history.samples, history.offset(age));
+      mutatePaint(frame.paint, alpha * (size - age) / (size + 1) << 24 | color, frame.chartWidth, frame.chartStyle);
+      canvas.drawPath(path, frame.paint);
+    }
+    return size;
+  }
+
+  /**
+   * Draws the selected axis: a thick spoke and a dot on every data vertex of that axis.
+   */
+  static int drawHighlight(Canvas canvas, RadarFrame frame, int axis, float[] values, float[][] series) {
+    final Paint paint = frame.paint;
+    final float[] vertices = frame.vertices;
+    mutatePaint(paint, frame.highlightColor, frame.chartWidth, STROKE);
+    canvas.drawLine(frame.centerX, frame.centerY, vertices[axis + axis], vertices[axis + axis + 1], paint);
+    mutatePaint(paint, frame.highlightColor, 0, FILL);
+    drawVertex(canvas, frame, axis, values[axis]);
+    for (int i = 0; i < frame.seriesCount; i++) {
+      drawVertex(canvas, frame, axis, series[i][axis]);
+    }
+    return 2 + frame.seriesCount;
+  }
+
+  static int drawAxis(Canvas canvas, RadarFrame frame) {
+    mutatePaint(frame.paint, frame.axisColor, frame.axisWidth, STROKE);
+    canvas.drawLines(frame.spokes, frame.paint);
+
+    final LabelLayout labels = frame.labels;
+    final int count = labels.count;
+    int drawn = 1;
+    for (int i = 0; i < count; i += frame.labelStride) {
+      canvas.drawText(frame.names[i], labels.x[i], labels.y[i], frame.textPaint);
+      drawn++;
+    }
+    return drawn;
+  }
+
+  /**
+   * Fills the whole background with one cached radial gradient instead of a stroke per ring.
+   */
+  private static void drawGradient(Canvas canvas, RadarFrame frame, boolean circle) {
+    final Paint paint = frame.paint;
+    mutatePaint(paint, BLACK, 0, FILL);
+    paint.setShader(frame.gradientShader());
+    if (circle) {
+      canvas.drawCircle(frame.centerX, frame.centerY, frame.axisMaxInternal, paint);
+    } else {
+      final float[] points = frame.vertices;
+      final Path path = frame.path;
+      path.rewind();
+      path.moveTo(points[0], points[1]);
+      for (int j = 2; j < points.length; j += 2) {
+        path.lineTo(points[j], points[j + 1]);
+      }
+      path.close();
+      canvas.drawPath(path, paint);
+    }
+    paint.setShader(null);
+  }
+
+  private static void drawVertex(Canvas canvas, RadarFrame frame, int axis, float value) {
+    final float radius = value * frame.ratio;
+    canvas.drawCircle(radius * frame.angles.cos[axis] + frame.centerX, radius * frame.angles.sin[axis] + frame.centerY,
+        frame.chartWidth * 2, frame.paint);
+  }
+
+  private static void drawCircles(Canvas canvas, RadarFrame frame) {
+    final RingSet rings = frame.rings;
+    for (int i = 0; i < rings.count; i++) {
+      mutatePaint(frame.paint, rings.colors[i], rings.widths[i] + 2, STROKE);
+      canvas.drawCircle(frame.centerX, frame.centerY, rings.centers[i], frame.paint);
+    }
+  }
+
+  private static void drawPolygons(Canvas canvas, RadarFrame frame, int count) {
+    final RingSet rings = frame.rings;
+    final float[] points = rings.vertices;
+    final Path path = frame.path;
+    for (int i = 0; i < rings.count; i++) {
+      if (RadarGeometry.stride(count, rings.centers[i], MIN_VERTEX_SPACING) > 1) {
+        mutatePaint(frame.paint, rings.colors[i], rings.widths[i] + 2, STROKE);
+        canvas.drawCircle(frame.centerX, frame.centerY, rings.centers[i], frame.paint);
+        continue;
+      }
+      final int offset = rings.offset(i);
+      final float startX = points[offset];
+      final float startY = points[offset + 1];
+
+      path.rewind();
+      path.moveTo(startX, startY);
+      path.setLastPoint(startX, startY);
+      for (int j = offset + 2; j < offset + count + count; j += 2) {
+        path.lineTo(points[j], points[j + 1]);
+      }
+      path.close();
+
+      //noinspection NumericCastThatLosesPrecision
+      mutatePaint(frame.paint, rings.colors[i], (float) (rings.widths[i] * cos(PI / count)) + 2, STROKE);
+      canvas.drawPath(path, frame.paint);
+    }
+  }
+
+  private static void layout(RadarFrame frame, RadarChartSnapshot snapshot) {
+    frame.startColor = snapshot.startColor;
+    frame.endColor = snapshot.endColor;
+    frame.axisColor = snapshot.axisColor;
+    frame.axisWidth = snapshot.axisWidth;
+    frame.chartColor = snapshot.chartColor;
+    frame.chartWidth = snapshot.chartWidth;
+    frame.chartStyle = RadarFrame.STYLES[snapshot.chartStyle];
+    frame.circlesOnly = snapshot.circlesOnly;
+    frame.smoothGradient = snapshot.smoothGradient;
+    frame.labelCollisionAvoidance = snapshot.labelCollisionAvoidance;
+    frame.textPaint.setTextSize(snapshot.textSize);
+
+    final int count = snapshot.names.length;
+    frame.setBounds(snapshot.width, snapshot.height, snapshot.paddingLeft, snapshot.paddingTop, snapshot.paddingRight,
+        snapshot.paddingBottom);
+    frame.setAxisCount(count);
+    frame.setScale(snapshot.axisMax, snapshot.axisTick);
+    if (!frame.isReady()) {
+      return;
+    }
+    frame.buildVertices();
+    frame.buildSpokes();
+    frame.measureLabels(snapshot.names, count);
+    frame.placeLabels();
+    frame.setSeriesStyles(snapshot.seriesNames.length, snapshot.seriesColors, snapshot.seriesWidths,
+        snapshot.seriesStyles);
+    frame.buildValues(snapshot.values, snapshot.seriesValues);
+  }
+}
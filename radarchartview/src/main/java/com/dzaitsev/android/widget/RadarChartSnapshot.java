@@ -0,0 +1,282 @@
+package com.dzaitsev.android.widget;
+
+import static java.util.Arrays.copyOf;
+
+/**
+ * Immutable chart data, style and size which can be rendered on any thread, see {@link RadarChartRenderer}.
+ * <p>
+ * Has no {@code android.*} dependencies. Colors are ARGB ints, sizes are in pixels and chart styles are the
+ * {@code STYLE_*} constants, which match the {@code Paint.Style} ordinals and the {@code chartStyle} attribute.
+ */
+@SuppressWarnings("ClassWithTooManyFields")
+public final class RadarChartSnapshot {
+  public static final int STYLE_FILL            = 0;
+  public static final int STYLE_STROKE          = 1;
+  public static final int STYLE_FILL_AND_STROKE = 2;
+
+  final int       width;
+  final int       height;
+  final int       paddingLeft;
+  final int       paddingTop;
+  final int       paddingRight;
+  final int       paddingBottom;
+  final String[]  names;
+  final float[]   values;
+  final String[]  seriesNames;
+  final float[][] seriesValues;
+  final int[]     seriesColors;
+  final float[]   seriesWidths;
+  final int[]     seriesStyles;
+  final int       startColor;
+  final int       endColor;
+  final int       axisColor;
+  final float     axisMax;
+  final float     axisTick;
+  final int       axisWidth;
+  final int       chartColor;
+  final int       chartWidth;
+  final int       chartStyle;
+  final boolean   circlesOnly;
+  final boolean   smoothGradient;
+  final boolean   labelCollisionAvoidance;
+  final float     textSize;
+
+  RadarChartSnapshot(Builder builder) {
+    width = builder.width;
+    height = builder.height;
+    paddingLeft = builder.paddingLeft;
+    paddingTop = builder.paddingTop;
+    paddingRight = builder.paddingRight;
+    paddingBottom = builder.paddingBottom;
+    names = builder.names.clone();
+    values = builder.values.clone();
+    final int seriesCount = builder.seriesCount;
+    seriesNames = new String[seriesCount];
+    seriesValues = new float[seriesCount][];
+    seriesColors = new int[seriesCount];
+    seriesWidths = new float[seriesCount];
+    seriesStyles = new int[seriesCount];
+    System.arraycopy(builder.seriesNames, 0, seriesNames, 0, seriesCount);
+    System.arraycopy(builder.seriesColors, 0, seriesColors, 0, seriesCount);
+    System.arraycopy(builder.seriesWidths, 0, seriesWidths, 0, seriesCount);
+    System.arraycopy(builder.seriesStyles, 0, seriesStyles, 0, seriesCount);
+    for (int i = 0; i < seriesCount; i++) {
+      if (builder.seriesValues[i].length != names.length) {
+        throw new IllegalStateException("Series " + seriesNames[i] + " has " + builder.seriesValues[i].length
+            + " values, expected " + names.length);
+      }
+      seriesValues[i] = builder.seriesValues[i].clone();
+    }
+    startColor = builder.startColor;
+    endColor = builder.endColor;
+    axisColor = builder.axisColor;
+    axisTick = Float.isNaN(builder.axisTick) ? builder.axisMax / 5 : builder.axisTick;
+    axisMax = builder.autoSize && names.length > 0 ? max(values, seriesValues) : builder.axisMax;
+    axisWidth = builder.axisWidth;
+    chartColor = builder.chartColor;
+    chartWidth = builder.chartWidth;
+    chartStyle = builder.chartStyle;
+    circlesOnly = builder.circlesOnly;
+    smoothGradient = builder.smoothGradient;
+    labelCollisionAvoidance = builder.labelCollisionAvoidance;
+    textSize = builder.textSize;
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  public int getAxisCount() {
+    return names.length;
+  }
+
+  public String getAxisName(int index) {
+    return names[index];
+  }
+
+  public float getAxisValue(int index) {
+    return values[index];
+  }
+
+  public float getAxisMax() {
+    return axisMax;
+  }
+
+  public int getSeriesCount() {
+    return seriesNames.length;
+  }
+
+  private static float max(float[] values, float[][] series) {
+    float max = values[0];
+    for (final float value : values) {
+      max = Math.max(max, value);
+    }
+    for (final float[] seriesValues : series) {
+      for (final float value : seriesValues) {
+        max = Math.max(max, value);
+      }
+    }
+    return max;
+  }
+
+  public static final class Builder {
+    int       width;
+    int       height;
+    int       paddingLeft;
+    int       paddingTop;
+    int       paddingRight;
+    int       paddingBottom;
+    String[]  names          = new String[0];
+    float[]   values         = new float[0];
+    String[]  seriesNames    = new String[4];
+    float[][] seriesValues   = new float[4][];
+    int[]     seriesColors   = new int[4];
+    float[]   seriesWidths   = new float[4];
+    int[]     seriesStyles   = new int[4];
+    int       seriesCount;
+    int       startColor     = 0xFF5F9CA1;
+    int       endColor       = 0xFFC3E3E5;
+    int       axisColor      = 0xFF000000;
+    float     axisMax        = 20;
+    float     axisTick       = Float.NaN;
+    int       axisWidth      = 1;
+    int       chartColor     = 0xFF22737B;
+    int       chartWidth     = 3;
+    int       chartStyle     = STYLE_STROKE;
+    boolean   circlesOnly;
+    boolean   autoSize       = true;
+    boolean   smoothGradient;
+    boolean   labelCollisionAvoidance;
+    float     textSize       = 30;
+
+    public Builder size(int width, int height) {
+      this.width = width;
+      this.height = height;
+      return this;
+    }
+
+    public Builder padding(int left, int top, int right, int bottom) {
+      paddingLeft = left;
+      paddingTop = top;
+      paddingRight = right;
+      paddingBottom = bottom;
+      return this;
+    }
+
+    public Builder axis(String[] names, float[] values) {
+      if (names.length != values.length) {
+        throw new IllegalArgumentException("names.length = " + names.length + ", values.length = " + values.length);
+      }
+      this.names = names;
+      this.values = values;
+      return this;
+    }
+
+    public Builder addSeries(String name, float[] values, int color, float width, int style) {
+      checkStyle(style);
+      if (seriesCount == seriesNames.length) {
+        final int length = seriesCount << 1;
+        seriesNames = copyOf(seriesNames, length);
+        seriesValues = copyOf(seriesValues, length);
+        seriesColors = copyOf(seriesColors, length);
+        seriesWidths = copyOf(seriesWidths, length);
+        seriesStyles = copyOf(seriesStyles, length);
+      }
+      seriesNames[seriesCount] = name;
+      seriesValues[seriesCount] = values;
+      seriesColors[seriesCount] = color;
+      seriesWidths[seriesCount] = width;
+      seriesStyles[seriesCount++] = style;
+      return this;
+    }
+
+    public Builder startColor(int startColor) {
+      this.startColor = startColor;
+      return this;
+    }
+
+    public Builder endColor(int endColor) {
+      this.endColor = endColor;
+      return this;
+    }
+
+    public Builder axisColor(int axisColor) {
+      this.axisColor = axisColor;
+      return this;
+    }
+
+    /**
+     * Sets a fixed scale and turns auto-sizing off.
+     */
+    public Builder axisMax(float axisMax) {
+      this.axisMax = axisMax;
+      autoSize = false;
+      return this;
+    }
+
+    public Builder axisTick(float axisTick) {
+      this.axisTick = axisTick;
+      return this;
+    }
+
+    public Builder axisWidth(int axisWidth) {
+      this.axisWidth = axisWidth;
+      return this;
+    }
+
+    public Builder chartColor(int chartColor) {
+      this.chartColor = chartColor;
+      return this;
+    }
+
+    public Builder chartWidth(int chartWidth) {
+      this.chartWidth = chartWidth;
+      return this;
+    }
+
+    public Builder chartStyle(int chartStyle) {
+      checkStyle(chartStyle);
+      this.chartStyle = chartStyle;
+      return this;
+    }
+
+    public Builder circlesOnly(boolean circlesOnly) {
+      this.circlesOnly = circlesOnly;
+      return this;
+    }
+
+    public Builder autoSize(boolean autoSize) {
+      this.autoSize = autoSize;
+      return this;
+    }
+
+    public Builder smoothGradient(boolean smoothGradient) {
+      this.smoothGradient = smoothGradient;
+      return this;
+    }
+
+    public Builder labelCollisionAvoidance(boolean labelCollisionAvoidance) {
+      this.labelCollisionAvoidance = labelCollisionAvoidance;
+      return this;
+    }
+
+    public Builder textSize(float textSize) {
+      this.textSize = textSize;
+      return this;
+    }
+
+    public RadarChartSnapshot build() {
+      return new RadarChartSnapshot(this);
+    }
+
+    private static void checkStyle(int style) {
+      if (style < STYLE_FILL || style > STYLE_FILL_AND_STROKE) {
+        throw new IllegalArgumentException("style = " + style);
+      }
+    }
+  }
+}
@@ -0,0 +1,282 @@
+package com.dzaitsev.android.widget;
+
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.graphics.Paint;
+import android.text.TextPaint;
+import android.util.AttributeSet;
+import android.util.DisplayMetrics;
+
+import static android.graphics.Color.BLACK;
+import static android.graphics.Color.parseColor;
+import static android.graphics.Paint.Style.STROKE;
+import static com.dzaitsev.android.widget.Colors.gradient;
+import static com.dzaitsev.android.widget.Utils.createPaint;
+import static com.dzaitsev.android.widget.Utils.dp;
+import static com.dzaitsev.android.widget.Utils.sp;
+
+/**
+ * Immutable, resolved appearance of a {@link RadarChartView} which can be applied to any number of views.
+ * <p>
+ * Attributes are parsed once in {@link #obtain(Context, AttributeSet, int)}, a view created with
+ * {@link RadarChartView#RadarChartView(Context, RadarChartStyle)} or bound with
+ * {@link RadarChartView#applyStyle(RadarChartStyle)} skips parsing altogether. Ring gradient colors are interpolated
+ * once per ring count and the paints are shared by all views using the style, so use a style on the UI thread only.
+ */
+@SuppressWarnings("ClassWithTooManyFields")
+public final class RadarChartStyle {
+  private static final int CACHE_SIZE = 4;
+
+  final int         startColor;
+  final int         endColor;
+  final int         axisColor;
+  final float       axisMax;
+  final float       axisTick;
+  final int         axisWidth;
+  final int         chartColor;
+  final int         chartWidth;
+  final Paint.Style chartStyle;
+  final boolean     circlesOnly;
+  final boolean     autoSize;
+  final boolean     smoothGradient;
+  final boolean     labelCollisionAvoidance;
+  final int         historyColor;
+  final int         highlightColor;
+  final int         bandColor;
+  final float       textSize;
+  final float       density;
+  final TextPaint   textPaint;
+  final Paint       paint;
+
+  private final int[][] ringColors = new int[CACHE_SIZE][];
+  private       int     ringColorsNext;
+
+  RadarChartStyle(Builder builder) {
+    startColor = builder.startColor;
+    endColor = builder.endColor;
+    axisColor = builder.axisColor;
+    axisMax = builder.axisMax;
+    axisTick = builder.axisTick;
+    axisWidth = builder.axisWidth;
+    chartColor = builder.chartColor;
+    chartWidth = builder.chartWidth;
+    chartStyle = builder.chartStyle;
+    circlesOnly = builder.circlesOnly;
+    autoSize = builder.autoSize;
+    smoothGradient = builder.smoothGradient;
+    labelCollisionAvoidance = builder.labelCollisionAvoidance;
+    historyColor = builder.historyColor;
+    highlightColor = builder.highlightColor;
+    bandColor = builder.bandColor;
+    textSize = builder.textSize;
+    density = builder.density;
+    textPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    textPaint.setTextSize(textSize);
+    textPaint.density = density;
+    paint = createPaint(BLACK);
+  }
+
+  /**
+   * Returns the default style of the current theme.
+   */
+  public static RadarChartStyle obtain(Context context) {
+    return obtain(context, null, 0);
+  }
+
+  /**
+   * Resolves the {@code RadarChartView} attributes, falling back to the theme colors.
+   */
+  public static RadarChartStyle obtain(Context context, AttributeSet attrs, int defStyleAttr) {
+    final TypedArray colors = context.obtainStyledAttributes(attrs, new int[] {
+        R.attr.colorAccent, R.attr.colorPrimary, R.attr.colorPrimaryDark
+    }, defStyleAttr, 0);
+    final int colorAccent = colors.getColor(0, parseColor("#22737b"));
+    final int colorPrimary = colors.getColor(1, parseColor("#c3e3e5"));
+    final int colorPrimaryDark = colors.getColor(2, parseColor("#5f9ca1"));
+    colors.recycle();
+
+    final Builder builder = new Builder();
+    final TypedArray values = context.obtainStyledAttributes(attrs, R.styleable.RadarChartView, defStyleAttr, 0);
+    final DisplayMetrics metrics = context.getResources().getDisplayMetrics();
+    builder.startColor = values.getColor(R.styleable.RadarChartView_startColor, colorPrimaryDark);
+    builder.endColor = values.getColor(R.styleable.RadarChartView_endColor, colorPrimary);
+    builder.axisColor = values.getColor(R.styleable.RadarChartView_axisColor, BLACK);
+    builder.axisMax = values.getFloat(R.styleable.RadarChartView_axisMax, 20);
+    builder.axisTick = values.getFloat(R.styleable.RadarChartView_axisTick, builder.axisMax / 5);
+    builder.textSize = values.getDimensionPixelSize(R.styleable.RadarChartView_textSize, sp(15, metrics));
+    builder.circlesOnly = values.getBoolean(R.styleable.RadarChartView_circlesOnly, false);
+    builder.autoSize = values.getBoolean(R.styleable.RadarChartView_autoSize, true);
+    builder.axisWidth = values.getDimensionPixelSize(R.styleable.RadarChartView_axisWidth, dp(1, metrics));
+    builder.chartColor = values.getColor(R.styleable.RadarChartView_chartColor, colorAccent);
+    builder.chartWidth = values.getDimensionPixelSize(R.styleable.RadarChartView_chartWidth, dp(3, metrics));
+    builder.chartStyle = RadarFrame.STYLES[values.getInt(R.styleable.RadarChartView_chartStyle, STROKE.ordinal())];
+    builder.smoothGradient = values.getBoolean(R.styleable.RadarChartView_smoothGradient, false);
+    builder.labelCollisionAvoidance = values.getBoolean(R.styleable.RadarChartView_labelCollisionAvoidance, false);
+    builder.historyColor = values.getColor(R.styleable.RadarChartView_historyColor, builder.chartColor);
+    builder.highlightColor = values.getColor(R.styleable.RadarChartView_highlightColor, builder.chartColor);
+    builder.bandColor =
+        values.getColor(R.styleable.RadarChartView_bandColor, builder.chartColor & 0x00FFFFFF | 0x40000000);
+    builder.density = metrics.density;
+    values.recycle();
+    return builder.build();
+  }
+
+  public Builder buildUpon() {
+    final Builder builder = new Builder();
+    builder.startColor = startColor;
+    builder.endColor = endColor;
+    builder.axisColor = axisColor;
+    builder.axisMax = axisMax;
+    builder.axisTick = axisTick;
+    builder.axisWidth = axisWidth;
+    builder.chartColor = chartColor;
+    builder.chartWidth = chartWidth;
+    builder.chartStyle = chartStyle;
+    builder.circlesOnly = circlesOnly;
+    builder.autoSize = autoSize;
+    builder.smoothGradient = smoothGradient;
+    builder.labelCollisionAvoidance = labelCollisionAvoidance;
+    builder.historyColor = historyColor;
+    builder.highlightColor = highlightColor;
+    builder.bandColor = bandColor;
+    builder.textSize = textSize;
+    builder.density = density;
+    return builder;
+  }
+
+  /**
+   * Returns the shared ring colors for {@code count} rings, from {@code startColor} to {@code endColor}.
+   */
+  int[] ringColors(int count) {
+    for (final int[] colors : ringColors) {
+      if (colors != null && colors.length == count) {
+        return colors;
+      }
+    }
+    final int[] colors = new int[count];
+    if (count == 1) {
+      colors[0] = startColor;
+    } else {
+      for (int i = 0; i < count - 1; i++) {
+        colors[i] = gradient(startColor, endColor, i, count);
+      }
+      colors[count - 1] = endColor;
+    }
+    ringColors[ringColorsNext] = colors;
+    ringColorsNext = (ringColorsNext + 1) % CACHE_SIZE;
+    return colors;
+  }
+
+  public static final class Builder {
+    int         startColor     = 0xFF5F9CA1;
+    int         endColor       = 0xFFC3E3E5;
+    int         axisColor      = BLACK;
+    float       axisMax        = 20;
+    float       axisTick       = 4;
+    int         axisWidth      = 1;
+    int         chartColor     = 0xFF22737B;
+    int         chartWidth     = 3;
+    Paint.Style chartStyle     = STROKE;
+    boolean     circlesOnly;
+    boolean     autoSize       = true;
+    boolean     smoothGradient;
+    boolean     labelCollisionAvoidance;
+    int         historyColor   = 0xFF22737B;
+    int         highlightColor = 0xFF22737B;
+    int         bandColor      = 0x4022737B;
+    float       textSize       = 30;
+    float       density        = 1;
+
+    public Builder startColor(int startColor) {
+      this.startColor = startColor;
+      return this;
+    }
+
+    public Builder endColor(int endColor) {
+      this.endColor = endColor;
+      return this;
+    }
+
+    public Builder axisColor(int axisColor) {
+      this.axisColor = axisColor;
+      return this;
+    }
+
+    public Builder axisMax(float axisMax) {
+      this.axisMax = axisMax;
+      return this;
+    }
+
+    public Builder axisTick(float axisTick) {
+      this.axisTick = axisTick;
+      return this;
+    }
+
+    public Builder axisWidth(int axisWidth) {
+      this.axisWidth = axisWidth;
+      return this;
+    }
+
+    public Builder chartColor(int chartColor) {
+      this.chartColor = chartColor;
+      return this;
+    }
+
+    public Builder chartWidth(int chartWidth) {
+      this.chartWidth = chartWidth;
+      return this;
+    }
+
+    public Builder chartStyle(Paint.Style chartStyle) {
+      this.chartStyle = chartStyle;
+      return this;
+    }
+
+    public Builder circlesOnly(boolean circlesOnly) {
+      this.circlesOnly = circlesOnly;
+      return this;
+    }
+
+    public Builder autoSize(boolean autoSize) {
+      this.autoSize = autoSize;
+      return this;
+    }
+
+    public Builder smoothGradient(boolean smoothGradient) {
+      this.smoothGradient = smoothGradient;
+      return this;
+    }
+
+    public Builder labelCollisionAvoidance(boolean labelCollisionAvoidance) {
+      this.labelCollisionAvoidance = labelCollisionAvoidance;
+      return this;
+    }
+
+    public Builder historyColor(int historyColor) {
+      this.historyColor = historyColor;
+      return this;
+    }
+
+    public Builder highlightColor(int highlightColor) {
+      this.highlightColor = highlightColor;
+      return this;
+    }
+
+    public Builder bandColor(int bandColor) {
+      this.bandColor = bandColor;
+      return this;
+    }
+
+    /**
+     * Sets the label text size in pixels.
+     */
+    public Builder textSize(float textSize) {
+      this.textSize = textSize;
+      return this;
+    }
+
+    public RadarChartStyle build() {
+      return new RadarChartStyle(this);
+    }
+  }
+}
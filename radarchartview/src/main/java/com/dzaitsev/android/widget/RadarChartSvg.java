@@ -0,0 +1,312 @@
+package com.dzaitsev.android.widget;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import static com.dzaitsev.android.widget.RadarChartSnapshot.STYLE_FILL;
+import static com.dzaitsev.android.widget.RadarChartSnapshot.STYLE_STROKE;
+import static java.lang.StrictMath.PI;
+import static java.lang.StrictMath.cos;
+import static java.lang.StrictMath.max;
+import static java.lang.StrictMath.min;
+
+/**
+ * Streams a {@link RadarChartSnapshot} as SVG on a plain JVM, without any {@code android.*} dependency.
+ * <p>
+ * Rings, spokes and values come from the same geometry and color math as {@link RadarChartRenderer}, so the output
+ * matches the on-device chart. The only difference is label placement: text cannot be measured without a font
+ * engine, so label sizes are estimated from the text size. Instances keep no state and may be shared between threads.
+ */
+@SuppressWarnings("NumericCastThatLosesPrecision") //
+public final class RadarChartSvg {
+  /** Rings whose vertices are closer than this many pixels are drawn as circles. */
+  private static final float MIN_VERTEX_SPACING = 2;
+  /** Spokes closer than this many pixels at the outer ring are thinned out. */
+  private static final float MIN_SPOKE_SPACING  = 2;
+  /** Average advance of a sans-serif glyph relative to the text size. */
+  private static final float CHAR_WIDTH         = 0.55F;
+  /** Cap height of a sans-serif font relative to the text size. */
+  private static final float CAP_HEIGHT         = 0.7F;
+
+  /**
+   * Writes the chart as UTF-8 SVG, {@code out} is flushed but not closed.
+   */
+  public void write(RadarChartSnapshot snapshot, OutputStream out) throws IOException {
+    final Writer writer = new BufferedWriter(new OutputStreamWriter(out, "UTF-8"));
+    write(snapshot, writer);
+    writer.flush();
+  }
+
+  public void write(RadarChartSnapshot snapshot, Writer out) throws IOException {
+    out.write("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"");
+    out.write(Integer.toString(snapshot.width));
+    out.write("\" height=\"");
+    out.write(Integer.toString(snapshot.height));
+    out.write("\">\n");
+
+    final int count = snapshot.names.length;
+    final float centerX = (snapshot.width >> 1) + snapshot.paddingLeft - snapshot.paddingRight;
+    final float centerY = (snapshot.height >> 1) + snapshot.paddingTop - snapshot.paddingBottom;
+    final float radius = max(0, min(snapshot.width - snapshot.paddingRight - snapshot.paddingLeft,
+        snapshot.height - snapshot.paddingBottom - snapshot.paddingTop)) * 0.5F;
+    if (radius > 0) {
+      final RadarGeometry.Angles angles = RadarGeometry.angles(count);
+      final float ratio = radius / snapshot.axisMax;
+      if (snapshot.smoothGradient) {
+        writeGradient(out, snapshot, angles, centerX, centerY, radius);
+      } else {
+        writeGrid(out, snapshot, angles, centerX, centerY, radius, snapshot.axisTick * ratio);
+      }
+      writeValues(out, snapshot, angles, centerX, centerY, ratio);
+      writeAxis(out, snapshot, angles, centerX, centerY, radius);
+    }
+    out.write("</svg>\n");
+  }
+
+  private static void writeGrid(Writer out, RadarChartSnapshot snapshot, RadarGeometry.Angles angles, float centerX,
+      float centerY, float radius, float tick) throws IOException {
+    final int count = angles.count;
+    final boolean polygons = count >= 3 && !snapshot.circlesOnly;
+    final RingSet rings = new RingSet();
+    rings.layout(radius, tick);
+    rings.color(snapshot.startColor, snapshot.endColor, null);
+    rings.buildVertices(angles, centerX, centerY);
+    for (int i = 0; i < rings.count; i++) {
+      final float center = rings.centers[i];
+      if (polygons && RadarGeometry.stride(count, center, MIN_VERTEX_SPACING) == 1) {
+        out.write("<polygon points=\"");
+        writePoints(out, rings.vertices, rings.offset(i), count);
+        out.write('"');
+        writePaint(out, rings.colors[i], (float) (rings.widths[i] * cos(PI / count)) + 2, STYLE_STROKE);
+      } else {
+        writeCircle(out, centerX, centerY, center);
+        writePaint(out, rings.colors[i], rings.widths[i] + 2, STYLE_STROKE);
+      }
+      out.write("/>\n");
+    }
+  }
+
+  private static void writeGradient(Writer out, RadarChartSnapshot snapshot, RadarGeometry.Angles angles,
+      float centerX, float centerY, float radius) throws IOException {
+    out.write("<defs><radialGradient id=\"background\" gradientUnits=\"userSpaceOnUse\" cx=\"");
+    writeNumber(out, centerX);
+    out.write("\" cy=\"");
+    writeNumber(out, centerY);
+    out.write("\" r=\"");
+    writeNumber(out, radius);
+    out.write("\">");
+    writeStop(out, 0, snapshot.startColor);
+    writeStop(out, 1, snapshot.endColor);
+    out.write("</radialGradient></defs>\n");
+
+    final int count = angles.count;
+    if (count >= 3 && !snapshot.circlesOnly) {
+      out.write("<polygon points=\"");
+      writePoints(out, RadarGeometry.ring(angles, radius, centerX, centerY, null), count);
+      out.write('"');
+    } else {
+      writeCircle(out, centerX, centerY, radius);
+    }
+    out.write(" fill=\"url(#background)\"/>\n");
+  }
+
+  private static void writeStop(Writer out, int offset, int color) throws IOException {
+    out.write("<stop offset=\"");
+    out.write(Integer.toString(offset));
+    out.write("\" stop-color=\"");
+    writeColor(out, color);
+    out.write('"');
+    writeOpacity(out, " stop-opacity=\"", color);
+    out.write("/>");
+  }
+
+  private static void writeValues(Writer out, RadarChartSnapshot snapshot, RadarGeometry.Angles angles,
+      float centerX, float centerY, float ratio) throws IOException {
+    float[] points = RadarGeometry.values(angles, snapshot.values, ratio, centerX, centerY, null);
+    writeValues(out, points, angles.count, centerX, centerY);
+    writePaint(out, snapshot.chartColor, snapshot.chartWidth, snapshot.chartStyle);
+    out.write("/>\n");
+    for (int i = 0; i < snapshot.seriesNames.length; i++) {
+      points = RadarGeometry.values(angles, snapshot.seriesValues[i], ratio, centerX, centerY, points);
+      writeValues(out, points, angles.count, centerX, centerY);
+      writePaint(out, snapshot.seriesColors[i], snapshot.seriesWidths[i], snapshot.seriesStyles[i]);
+      out.write("/>\n");
+    }
+  }
+
+  private static void writeValues(Writer out, float[] points, int count, float centerX, float centerY)
+      throws IOException {
+    out.write("<path d=\"");
+    if (count == 1) {
+      out.write('M');
+      writePoint(out, centerX, centerY);
+      out.write('L');
+      writePoint(out, points[0], points[1]);
+      out.write('Z');
+    } else if (count > 1) {
+      out.write('M');
+      writePoints(out, points, count);
+      out.write('Z');
+    }
+    out.write('"');
+  }
+
+  private static void writeAxis(Writer out, RadarChartSnapshot snapshot, RadarGeometry.Angles angles, float centerX,
+      float centerY, float radius) throws IOException {
+    final int count = angles.count;
+    final int spokeStride = RadarGeometry.stride(count, radius, MIN_SPOKE_SPACING);
+    final float[] spokes = RadarGeometry.spokes(angles, radius, centerX, centerY, spokeStride, null);
+    out.write("<path d=\"");
+    for (int j = 0; j < spokes.length; j += 4) {
+      out.write('M');
+      writePoint(out, spokes[j], spokes[j + 1]);
+      out.write('L');
+      writePoint(out, spokes[j + 2], spokes[j + 3]);
+    }
+    out.write('"');
+    writePaint(out, snapshot.axisColor, snapshot.axisWidth, STYLE_STROKE);
+    out.write("/>\n");
+
+    final LabelLayout labels = new LabelLayout();
+    labels.setCount(count);
+    for (int i = 0; i < count; i++) {
+      labels.widths[i] = snapshot.names[i].length() * snapshot.textSize * CHAR_WIDTH;
+      labels.heights[i] = snapshot.textSize * CAP_HEIGHT;
+    }
+    final float[] vertices = RadarGeometry.ring(angles, radius, centerX, centerY, null);
+    labels.place(vertices, angles, centerX, centerY, snapshot.labelCollisionAvoidance);
+    final int labelStride = RadarGeometry.stride(count, radius, labels.maxHeight());
+
+    out.write("<g font-family=\"sans-serif\" font-size=\"");
+    writeNumber(out, snapshot.textSize);
+    out.write("\">\n");
+    for (int i = 0; i < count; i += labelStride) {
+      out.write("<text x=\"");
+      writeNumber(out, labels.x[i]);
+      out.write("\" y=\"");
+      writeNumber(out, labels.y[i]);
+      out.write("\">");
+      writeText(out, snapshot.names[i]);
+      out.write("</text>\n");
+    }
+    out.write("</g>\n");
+  }
+
+  private static void writeCircle(Writer out, float centerX, float centerY, float radius) throws IOException {
+    out.write("<circle cx=\"");
+    writeNumber(out, centerX);
+    out.write("\" cy=\"");
+    writeNumber(out, centerY);
+    out.write("\" r=\"");
+    writeNumber(out, radius);
+    out.write('"');
+  }
+
+  /**
+   * Writes the fill and stroke attributes for a {@code Paint.Style} ordinal, Android's default miter joins and butt
+   * caps are the SVG defaults too.
+   */
+  private static void writePaint(Writer out, int color, float width, int style) throws IOException {
+    if (style == STYLE_STROKE) {
+      out.write(" fill=\"none\"");
+    } else {
+      out.write(" fill=\"");
+      writeColor(out, color);
+      out.write('"');
+      writeOpacity(out, " fill-opacity=\"", color);
+    }
+    if (style != STYLE_FILL) {
+      out.write(" stroke=\"");
+      writeColor(out, color);
+      out.write("\" stroke-width=\"");
+      writeNumber(out, width);
+      out.write('"');
+      writeOpacity(out, " stroke-opacity=\"", color);
+    }
+  }
+
+  private static void writeColor(Writer out, int color) throws IOException {
+    out.write('#');
+    for (int shift = 20; shift >= 0; shift -= 4) {
+      out.write(Character.forDigit(color >> shift & 0xF, 16));
+    }
+  }
+
+  private static void writeOpacity(Writer out, String attribute, int color) throws IOException {
+    final int alpha = color >>> 24;
+    if (alpha != 0xFF) {
+      out.write(attribute);
+      writeNumber(out, alpha / 255F);
+      out.write('"');
+    }
+  }
+
+  private static void writePoints(Writer out, float[] points, int count) throws IOException {
+    writePoints(out, points, 0, count);
+  }
+
+  private static void writePoints(Writer out, float[] points, int offset, int count) throws IOException {
+    for (int j = offset; j < offset + count + count; j += 2) {
+      if (j > offset) {
+        out.write(' ');
+      }
+      writePoint(out, points[j], points[j + 1]);
+    }
+  }
+
+  private static void writePoint(Writer out, float x, float y) throws IOException {
+    writeNumber(out, x);
+    out.write(',');
+    writeNumber(out, y);
+  }
+
+  /**
+   * Writes {@code value} rounded to two decimals, which is well below what a rasterizer can resolve.
+   */
+  private static void writeNumber(Writer out, float value) throws IOException {
+    final long hundredths = Math.round(value * 100.0);
+    if (hundredths < 0) {
+      out.write('-');
+    }
+    final long abs = Math.abs(hundredths);
+    out.write(Long.toString(abs / 100));
+    final int fraction = (int) (abs % 100);
+    if (fraction != 0) {
+      out.write('.');
+      out.write('0' + fraction / 10);
+      if (fraction % 10 != 0) {
+        out.write('0' + fraction % 10);
+      }
+    }
+  }
+
+  private static void writeText(Writer out, String text) throws IOException {
+    for (int i = 0; i < text.length(); i++) {
+      final char c = text.charAt(i);
+      switch (c) {
+        case '<':
+          out.write("&lt;");
+          break;
+        case '>':
+          out.write("&gt;");
+          break;
+        case '&':
+          out.write("&amp;");
+          break;
+        case '\t':
+        case '\n':
+        case '\r':
+          out.write(c);
+          break;
+        default:
+          // other controls and the noncharacters are not allowed anywhere in XML 1.0
+          if (c >= 0x20 && c != 0xFFFE && c != 0xFFFF) {
+            out.write(c);
+          }
+      }
+    }
+  }
+}
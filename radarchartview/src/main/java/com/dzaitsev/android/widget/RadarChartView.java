@@ -1,35 +1,27 @@
 package com.dzaitsev.android.widget;
 
 import android.content.Context;
-import android.content.res.TypedArray;
 import android.graphics.Canvas;
 import android.graphics.Paint;
-import android.graphics.Path;
 import android.graphics.Rect;
+import android.os.Build;
+import android.os.Parcel;
+import android.os.Parcelable;
+import android.os.SystemClock;
 import android.text.TextPaint;
 import android.util.AttributeSet;
-import android.util.DisplayMetrics;
+import android.view.MotionEvent;
 import android.view.View;
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
+import android.view.animation.Interpolator;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
-import static android.graphics.Color.BLACK;
-import static android.graphics.Color.parseColor;
-import static android.graphics.Paint.Style.STROKE;
-import static com.dzaitsev.android.widget.Utils.createPaint;
-import static com.dzaitsev.android.widget.Utils.createPoint;
-import static com.dzaitsev.android.widget.Utils.createPoints;
-import static com.dzaitsev.android.widget.Utils.dp;
-import static com.dzaitsev.android.widget.Utils.gradient;
-import static com.dzaitsev.android.widget.Utils.mutatePaint;
-import static com.dzaitsev.android.widget.Utils.sp;
-import static java.lang.StrictMath.PI;
-import static java.lang.StrictMath.ceil;
-import static java.lang.StrictMath.cos;
 import static java.lang.StrictMath.max;
 import static java.lang.StrictMath.min;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.copyOfRange;
 
 /**
  * ~ ~ ~ ~ Description ~ ~ ~ ~
@@ -39,34 +31,49 @@ import static java.lang.StrictMath.min;
  */
 @SuppressWarnings("ClassWithTooManyFields")
 public class RadarChartView extends View {
-  private int         startColor;
-  private int         endColor;
-  private int         axisColor;
-  private float       axisMax;
-  private float       axisTick;
-  private int         axisWidth;
-  private int         chartColor;
-  private int         chartWidth;
-  private Paint.Style chartStyle;
-  private boolean     circlesOnly;
-  private boolean     autoSize;
-  private boolean     smoothGradient;
-
-  private final LinkedHashMap<String, Float> axis;
-  private final Rect                         rect;
-  private final Path                         path;
-  private final TextPaint                    textPaint;
-  private final Paint                        paint;
-  private       int                          centerX;
-  private       int                          centerY;
-  private       Ring[]                       rings;
-  private       float[]                      vertices;
-  private       float                        ratio;
-  private       float                        axisMaxInternal;
-  private       float                        axisTickInternal;
+  private static final int DIRTY_SIZE       = 1;
+  private static final int DIRTY_AXIS_COUNT = 1 << 1;
+  private static final int DIRTY_SCALE      = 1 << 2;
+  private static final int DIRTY_STYLE      = 1 << 3;
+  private static final int DIRTY_VALUES     = 1 << 4;
+  private static final int DIRTY_LABELS     = 1 << 5;
+  private static final int DIRTY_ALL        = (1 << 6) - 1;
+  private static final int FRAME_DELAY      = 16;
+
+  private float   axisMax;
+  private float   axisTick;
+  private boolean autoSize;
+
+  private final AxisStore                    axis;
+  private final RadarFrame                   frame;
+  private final StaticLayer                  gridLayer;
+  private final StaticLayer                  axisLayer;
+  private final Editor                       editor;
+  private final ValueTransition              transition;
+  private final Runnable                     animationFrame;
+  private final Runnable                     applyPublished;
+  private final AtomicReference<Published>   published;
+  private final AtomicBoolean                publishScheduled;
+  private final SeriesSet                    series;
+  private final SampleHistory                history;
+  private       int                          dirty;
+  private       int                          editDepth;
+  private       Interpolator                 interpolator;
+  private       boolean                      editPending;
+  private       boolean                      editNames;
+  private       RadarChartMetrics            metrics;
+  private       RadarChartMetrics.Listener   metricsListener;
+  private       boolean                      inFrame;
+  private       int                          selectedAxis = -1;
+  private       OnAxisClickListener          axisClickListener;
+  private final Rect                         valuesBounds = new Rect();
+  private       float[]                      bandLower;
+  private       float[]                      bandUpper;
+  private       int                          width;
+  private       int                          height;
 
   public RadarChartView(Context context) {
-    this(context, null);
+    this(context, (AttributeSet) null);
   }
 
   public RadarChartView(Context context, AttributeSet attrs) {
@@ -74,69 +81,225 @@ public class RadarChartView extends View {
   }
 
   public RadarChartView(Context context, AttributeSet attrs, int defStyleAttr) {
+    this(context, attrs, defStyleAttr, RadarChartStyle.obtain(context, attrs, defStyleAttr));
+  }
+
+  /**
+   * Creates a view with a shared, already resolved style and without parsing any attributes.
+   */
+  public RadarChartView(Context context, RadarChartStyle style) {
+    this(context, null, 0, style);
+  }
+
+  private RadarChartView(Context context, AttributeSet attrs, int defStyleAttr, RadarChartStyle style) {
     super(context, attrs, defStyleAttr);
-    axis = new LinkedHashMap<>();
-    rect = new Rect();
-    path = new Path();
-    textPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
-    paint = createPaint(BLACK);
-
-    final TypedArray colors = context.obtainStyledAttributes(attrs, new int[] {
-        R.attr.colorAccent, R.attr.colorPrimary, R.attr.colorPrimaryDark
-    }, defStyleAttr, 0);
-    final int colorAccent = colors.getColor(0, parseColor("#22737b"));
-    final int colorPrimary = colors.getColor(1, parseColor("#c3e3e5"));
-    final int colorPrimaryDark = colors.getColor(2, parseColor("#5f9ca1"));
-    colors.recycle();
-
-    final TypedArray values = context.obtainStyledAttributes(attrs, R.styleable.RadarChartView, defStyleAttr, 0);
-    startColor = values.getColor(R.styleable.RadarChartView_startColor, colorPrimaryDark);
-    endColor = values.getColor(R.styleable.RadarChartView_endColor, colorPrimary);
-    axisColor = values.getColor(R.styleable.RadarChartView_axisColor, BLACK);
-    axisMax = values.getFloat(R.styleable.RadarChartView_axisMax, 20);
-    axisTick = values.getFloat(R.styleable.RadarChartView_axisTick, axisMax / 5);
-    final DisplayMetrics metrics = getResources().getDisplayMetrics();
-    final int textSize = values.getDimensionPixelSize(R.styleable.RadarChartView_textSize, sp(15, metrics));
-    circlesOnly = values.getBoolean(R.styleable.RadarChartView_circlesOnly, false);
-    autoSize = values.getBoolean(R.styleable.RadarChartView_autoSize, true);
-    axisWidth = values.getDimensionPixelSize(R.styleable.RadarChartView_axisWidth, dp(1, metrics));
-    chartColor = values.getColor(R.styleable.RadarChartView_chartColor, colorAccent);
-    chartWidth = values.getDimensionPixelSize(R.styleable.RadarChartView_chartWidth, dp(3, metrics));
-    chartStyle = Paint.Style.values()[values.getInt(R.styleable.RadarChartView_chartStyle, STROKE.ordinal())];
-    smoothGradient = values.getBoolean(R.styleable.RadarChartView_smoothGradient, false);
-    values.recycle();
-
-    textPaint.setTextSize(textSize);
-    textPaint.density = metrics.density;
+    axis = new AxisStore();
+    frame = new RadarFrame(style.textPaint, style.paint);
+    gridLayer = new StaticLayer();
+    axisLayer = new StaticLayer();
+    editor = new Editor();
+    transition = new ValueTransition();
+    animationFrame = new Runnable() {
+      @Override public void run() {
+        onAnimationFrame();
+      }
+    };
+    applyPublished = new Runnable() {
+      @Override public void run() {
+        onPublished();
+      }
+    };
+    published = new AtomicReference<Published>();
+    publishScheduled = new AtomicBoolean();
+    series = new SeriesSet();
+    history = new SampleHistory();
+    copyStyle(style);
+    dirty = DIRTY_ALL;
   }
 
   public final void addOrReplace(String axisName, float value) {
-    axis.put(axisName, value);
+    if (axis.put(axisName, value)) {
+      onAxisNamesChanged();
+    }
     onAxisChanged();
   }
 
+  /**
+   * Animates the current axes to {@code values}, the auto-sized scale follows the values.
+   *
+   * @param interpolator the easing curve, linear if {@code null}
+   */
+  public final void animateTo(float[] values, long durationMs, Interpolator interpolator) {
+    final int count = axis.size();
+    if (values.length != count) {
+      throw new IllegalArgumentException("Expected " + count + " values, got " + values.length);
+    }
+    startTransition(axis.values(), values, count, durationMs, interpolator);
+  }
+
+  /**
+   * Animates to a new set of axes: new axes grow from the center, axes missing from {@code names} shrink to it and are
+   * removed when the animation ends.
+   *
+   * @param interpolator the easing curve, linear if {@code null}
+   */
+  public final void animateTo(String[] names, float[] values, long durationMs, Interpolator interpolator) {
+    if (names.length != values.length) {
+      throw new IllegalArgumentException("names.length = " + names.length + ", values.length = " + values.length);
+    }
+    final HashMap<String, Integer> targets = new HashMap<>(names.length);
+    for (int i = 0; i < names.length; i++) {
+      targets.put(names[i], i);
+    }
+    final int current = axis.size();
+    int added = 0;
+    for (final String name : names) {
+      if (axis.indexOf(name) < 0) {
+        added++;
+      }
+    }
+    final int count = current + added;
+    final String[] unionNames = new String[count];
+    final float[] from = new float[count];
+    final float[] to = new float[count];
+    boolean removed = false;
+    for (int i = 0; i < current; i++) {
+      unionNames[i] = axis.name(i);
+      from[i] = axis.value(i);
+      final Integer target = targets.get(unionNames[i]);
+      removed |= target == null;
+      to[i] = target == null ? 0 : values[target];
+    }
+    int next = current;
+    for (int i = 0; i < names.length; i++) {
+      if (axis.indexOf(names[i]) < 0) {
+        unionNames[next] = names[i];
+        to[next++] = values[i];
+      }
+    }
+
+    if (added > 0) {
+      axis.set(unionNames, from);
+      onAxisNamesChanged();
+      markDirty(DIRTY_AXIS_COUNT | DIRTY_VALUES);
+    }
+    startTransition(from, to, count, durationMs, interpolator);
+    if (removed || !isPrefixOrder(unionNames, names)) {
+      transition.endNames = names.clone();
+      transition.endValues = values.clone();
+    }
+  }
+
+  public final void cancelAnimation() {
+    if (transition.isRunning()) {
+      transition.stop();
+      removeCallbacks(animationFrame);
+    }
+  }
+
+  public final boolean isAnimating() {
+    return transition.isRunning();
+  }
+
   public final void clearAxis() {
     axis.clear();
+    onAxisNamesChanged();
     onAxisChanged();
   }
 
+  /**
+   * Starts a batch of axis mutations which is applied with a single rescale, geometry rebuild and invalidate on
+   * {@link Editor#commit()}. Batches may be nested, the outermost commit applies the changes.
+   * <p>
+   * Every call must be paired with a commit on the same pass of the UI thread, in a {@code finally} block if the
+   * mutations can throw: the next draw throws {@link IllegalStateException} while a batch is still open.
+   */
+  public final Editor edit() {
+    editDepth++;
+    return editor;
+  }
+
   public final Map<String, Float> getAxis() {
-    return Collections.unmodifiableMap(axis);
+    return axis.asMap();
   }
 
   public final void setAxis(Map<String, Float> axis) {
     this.axis.clear();
-    this.axis.putAll(axis);
+    for (final Map.Entry<String, Float> entry : axis.entrySet()) {
+      this.axis.put(entry.getKey(), entry.getValue());
+    }
+    onAxisNamesChanged();
+    onAxisChanged();
+  }
+
+  public final void setAxis(String[] names, float[] values) {
+    axis.set(names, values);
+    onAxisNamesChanged();
+    onAxisChanged();
+  }
+
+  /**
+   * Shows one statistic of {@code aggregation} per axis, e.g. {@link RadarAggregation#MEAN}, replacing all axes.
+   */
+  public final void setAxis(RadarAggregation aggregation, int statistic) {
+    setAxis(aggregation.names, aggregation.values(statistic));
+  }
+
+  public final int getAxisCount() {
+    return axis.size();
+  }
+
+  public final String getAxisName(int index) {
+    return axis.name(index);
+  }
+
+  public final float getAxisValue(int index) {
+    return axis.value(index);
+  }
+
+  /**
+   * Publishes new axes from any thread without locking. Only the latest publication before a frame is applied, so any
+   * number of calls costs one update on the UI thread per frame.
+   */
+  public final void publish(String[] names, float[] values) {
+    if (names.length != values.length) {
+      throw new IllegalArgumentException("Got " + names.length + " names and " + values.length + " values");
+    }
+    publish(new Published(names.clone(), values.clone()));
+  }
+
+  /**
+   * Same as {@link #publish(String[], float[])} for new values of the current axes, one per axis in axis order. Values
+   * which no longer match the axis count when they are applied are dropped.
+   */
+  public final void publishValues(float[] values) {
+    publish(new Published(null, values.clone()));
+  }
+
+  public final void setAxisValues(float[] values) {
+    axis.setValues(values);
     onAxisChanged();
   }
 
+  /**
+   * Replaces every style property at once with values resolved beforehand, e.g. when binding a list item. The style's
+   * ring colors and paints are shared until a setter overrides them for this view.
+   */
+  public final void applyStyle(RadarChartStyle style) {
+    copyStyle(style);
+    if (autoSize && !axis.isEmpty()) {
+      axisMax = dataMax();
+    }
+    markDirty(DIRTY_SCALE | DIRTY_STYLE | DIRTY_LABELS);
+  }
+
   public final int getAxisColor() {
-    return axisColor;
+    return frame.axisColor;
   }
 
   public final void setAxisColor(int axisColor) {
-    this.axisColor = axisColor;
-    invalidate();
+    frame.axisColor = axisColor;
+    markDirty(DIRTY_STYLE);
   }
 
   public final float getAxisMax() {
@@ -144,8 +307,9 @@ public class RadarChartView extends View {
   }
 
   public final void setAxisMax(float axisMax) {
-    setAutoSize(false);
-    setAxisMaxInternal(axisMax);
+    autoSize = false;
+    this.axisMax = axisMax;
+    markDirty(DIRTY_SCALE);
   }
 
   public final float getAxisTick() {
@@ -153,66 +317,68 @@ public class RadarChartView extends View {
   }
 
   public final void setAxisTick(float axisTick) {
+    if (!(axisTick > 0) || Float.isInfinite(axisTick)) {
+      throw new IllegalArgumentException("axisTick = " + axisTick);
+    }
     this.axisTick = axisTick;
-    calcAxisTickInternal();
-
-    buildRings();
-    invalidate();
+    markDirty(DIRTY_SCALE);
   }
 
   public final float getAxisWidth() {
-    return axisWidth;
+    return frame.axisWidth;
   }
 
   public final void setAxisWidth(int axisWidth) {
-    this.axisWidth = axisWidth;
-    invalidate();
+    frame.axisWidth = axisWidth;
+    markDirty(DIRTY_STYLE);
   }
 
   public final int getChartColor() {
-    return chartColor;
+    return frame.chartColor;
   }
 
   public final void setChartColor(int chartColor) {
-    this.chartColor = chartColor;
+    frame.chartColor = chartColor;
     invalidate();
   }
 
   public final Paint.Style getChartStyle() {
-    return chartStyle;
+    return frame.chartStyle;
   }
 
+  /**
+   * Changes what the value polygons cover, so their bounds are measured again for the next partial redraw.
+   */
   public final void setChartStyle(Paint.Style chartStyle) {
-    this.chartStyle = chartStyle;
-    invalidate();
+    frame.chartStyle = chartStyle;
+    markDirty(DIRTY_VALUES);
   }
 
   public final float getChartWidth() {
-    return chartWidth;
+    return frame.chartWidth;
   }
 
   public final void setChartWidth(int chartWidth) {
-    this.chartWidth = chartWidth;
-    invalidate();
+    frame.chartWidth = chartWidth;
+    markDirty(DIRTY_VALUES);
   }
 
   public final int getEndColor() {
-    return endColor;
+    return frame.endColor;
   }
 
   public final void setEndColor(int endColor) {
-    this.endColor = endColor;
-    invalidate();
-    invalidate();
+    frame.endColor = endColor;
+    markDirty(DIRTY_STYLE);
   }
 
   public final int getStartColor() {
-    return startColor;
+    return frame.startColor;
   }
 
   public final void setStartColor(int startColor) {
-    this.startColor = startColor;
-    invalidate();
+    frame.startColor = startColor;
+    markDirty(DIRTY_STYLE);
   }
 
   public final boolean isAutoSize() {
@@ -223,57 +389,490 @@ public class RadarChartView extends View {
     this.autoSize = autoSize;
 
     if (autoSize && !axis.isEmpty()) {
-      setAxisMaxInternal(Collections.max(axis.values()));
+      axisMax = dataMax();
+      markDirty(DIRTY_SCALE);
     }
   }
 
   public final boolean isCirclesOnly() {
-    return circlesOnly;
+    return frame.circlesOnly;
   }
 
   public final void setCirclesOnly(boolean circlesOnly) {
-    this.circlesOnly = circlesOnly;
-    invalidate();
+    frame.circlesOnly = circlesOnly;
+    markDirty(DIRTY_STYLE);
   }
 
   public final boolean isSmoothGradient() {
-    return smoothGradient;
+    return frame.smoothGradient;
   }
 
   public final void setSmoothGradient(boolean smoothGradient) {
-    this.smoothGradient = smoothGradient;
+    frame.smoothGradient = smoothGradient;
+    markDirty(DIRTY_STYLE);
+  }
+
+  public final boolean isLabelCollisionAvoidance() {
+    return frame.labelCollisionAvoidance;
+  }
+
+  public final void setLabelCollisionAvoidance(boolean labelCollisionAvoidance) {
+    frame.labelCollisionAvoidance = labelCollisionAvoidance;
+    markDirty(DIRTY_LABELS);
+  }
+
+  public final int getHistoryColor() {
+    return frame.historyColor;
+  }
+
+  /**
+   * Sets the color of the newest history polygon, older ones fade out from its alpha.
+   */
+  public final void setHistoryColor(int historyColor) {
+    frame.historyColor = historyColor;
     invalidate();
   }
 
+  public final int getHighlightColor() {
+    return frame.highlightColor;
+  }
+
+  public final void setHighlightColor(int highlightColor) {
+    frame.highlightColor = highlightColor;
+    invalidateHighlight(selectedAxis);
+  }
+
+  public final int getHistorySize() {
+    return history.capacity();
+  }
+
+  /**
+   * Keeps the last {@code size} samples replaced by {@link #appendSample(float[])} and draws them as fading polygons
+   * behind the values, {@code 0} turns the history off. Changing the size or the axes drops the history.
+   */
+  public final void setHistorySize(int size) {
+    history.setCapacity(size, axis.size());
+    invalidate();
+  }
+
+  /**
+   * Streams in a new sample, one value per axis in axis order. The current values move into the history and
+   * {@code values} become current; the auto-sized scale follows the current values only.
+   */
+  public final void appendSample(float[] values) {
+    if (values.length != axis.size()) {
+      throw new IllegalArgumentException("Expected " + axis.size() + " values, got " + values.length);
+    }
+    history.add(axis.values());
+    axis.setValues(values);
+    onAxisChanged();
+  }
+
+  public final void clearHistory() {
+    history.clear();
+    invalidate();
+  }
+
+  /**
+   * Adds a data series drawn over the same axes or replaces the one with the same name. Values are positional, one per
+   * axis in axis order; axes added later start at {@code 0} in every series.
+   */
+  public final void addSeries(String name, float[] values, int color, int width, Paint.Style style) {
+    series.put(name, values, color, width, style.ordinal());
+    onOverlayChanged();
+  }
+
+  public final int getSeriesCount() {
+    return series.size;
+  }
+
+  public final String getSeriesName(int index) {
+    return series.names[index];
+  }
+
+  public final void setSeriesValues(String name, float[] values) {
+    final int index = series.indexOf(name);
+    if (index < 0) {
+      throw new IllegalArgumentException("No series named " + name);
+    }
+    series.setValues(index, values);
+    onOverlayChanged();
+  }
+
+  /**
+   * Shades the envelope between {@code lower} and {@code upper}, one bound per axis in axis order, behind the values.
+   * Updating the band costs {@code O(axes)}; changing the axes removes it.
+   */
+  public final void setBand(float[] lower, float[] upper) {
+    final int count = axis.size();
+    if (lower.length != count || upper.length != count) {
+      throw new IllegalArgumentException("Expected " + count + " bounds, got " + lower.length + " and " + upper.length);
+    }
+    ensureBand(count);
+    System.arraycopy(lower, 0, bandLower, 0, count);
+    System.arraycopy(upper, 0, bandUpper, 0, count);
+    onOverlayChanged();
+  }
+
+  /**
+   * Shades the envelope between two quantiles of {@code aggregation}, e.g. {@code 0.1} and {@code 0.9}; show the
+   * median on top with {@code setAxisValues(aggregation.percentiles(0.5))}. Feeding the aggregation one sample per
+   * axis and calling this again keeps the cost per update at {@code O(axes)}, whatever the number of samples.
+   */
+  public final void setBand(RadarAggregation aggregation, double lowerQuantile, double upperQuantile) {
+    final int count = axis.size();
+    if (aggregation.size() != count) {
+      throw new IllegalArgumentException("Expected " + count + " axes, got " + aggregation.size());
+    }
+    ensureBand(count);
+    for (int i = 0; i < count; i++) {
+      final boolean empty = aggregation.getCount(i) == 0;
+      bandLower[i] = empty ? 0 : aggregation.getPercentile(i, lowerQuantile);
+      bandUpper[i] = empty ? 0 : aggregation.getPercentile(i, upperQuantile);
+    }
+    onOverlayChanged();
+  }
+
+  public final void clearBand() {
+    bandLower = null;
+    bandUpper = null;
+    onOverlayChanged();
+  }
+
+  public final int getBandColor() {
+    return frame.bandColor;
+  }
+
+  public final void setBandColor(int bandColor) {
+    frame.bandColor = bandColor;
+    invalidate();
+  }
+
+  public final void removeSeries(String name) {
+    final int index = series.indexOf(name);
+    if (index >= 0) {
+      series.remove(index);
+      onOverlayChanged();
+    }
+  }
+
+  public final void clearSeries() {
+    series.clear();
+    onOverlayChanged();
+  }
+
   public final void remove(String axisName) {
-    axis.remove(axisName);
+    final int index = axis.indexOf(axisName);
+    if (axis.remove(axisName)) {
+      series.removeAxis(index);
+      onAxisNamesChanged();
+    }
     onAxisChanged();
   }
 
   public final void setTextSize(float textSize) {
-    textPaint.setTextSize(textSize);
-    invalidate();
+    if (frame.style != null && frame.textPaint == frame.style.textPaint) {
+      final TextPaint textPaint = new TextPaint();
+      textPaint.set(frame.textPaint);
+      frame.textPaint = textPaint;
+    }
+    frame.textPaint.setTextSize(textSize);
+    markDirty(DIRTY_LABELS);
   }
 
-  @Override protected void onSizeChanged(int w, int h, int oldw, int oldh) {
-    calculateCenter();
-    axisMaxInternal =
-        max(0, min(getMeasuredWidth() - getPaddingRight() - getPaddingLeft(), getMeasuredHeight() - getPaddingBottom() - getPaddingTop()))
-            * 0.5F;
-    calcRatio();
-    calcAxisTickInternal();
-    buildRings();
+  /**
+   * Returns the axis under {@code x, y} in view coordinates, {@code -1} if the point is outside the chart and its
+   * labels. Costs one {@code atan2}, no matter how many axes there are.
+   */
+  public final int axisAt(float x, float y) {
+    validate();
+    if (!frame.isReady()) {
+      return -1;
+    }
+    final float dx = x - frame.centerX;
+    final float dy = y - frame.centerY;
+    final float reach = frame.axisMaxInternal + frame.textPaint.getTextSize() * 2;
+    if (dx * dx + dy * dy > reach * reach) {
+      return -1;
+    }
+    return RadarGeometry.axisAt(frame.angles, dx, dy);
   }
 
-  @Override protected void onDraw(Canvas canvas) {
+  /**
+   * Finds the data vertex closest to {@code x, y} among the main values and every series, looking at the axis under
+   * the point and its two neighbours only. Fills {@code out} and returns {@code true}, or returns {@code false} if
+   * there is no data. Allocates nothing, so it is safe to call on every touch move.
+   */
+  public final boolean nearestValuePoint(float x, float y, ValuePoint out) {
+    validate();
+    if (!frame.isReady() || axis.isEmpty()) {
+      return false;
+    }
+    final RadarGeometry.Angles angles = frame.angles;
+    final int count = angles.count;
+    final int center = RadarGeometry.axisAt(angles, x - frame.centerX, y - frame.centerY);
+    out.distance = Float.MAX_VALUE;
+    for (int k = -1; k <= 1; k++) {
+      final int index = (center + k + count) % count;
+      out.consider(frame, x, y, index, -1, axis.values()[index]);
+      for (int i = 0; i < series.size; i++) {
+        out.consider(frame, x, y, index, i, series.values[i][index]);
+      }
+    }
+    return true;
+  }
+
+  public final int getSelectedAxis() {
+    return selectedAxis;
+  }
+
+  /**
+   * Highlights the spoke and the data vertices of an axis, {@code -1} clears the selection. Only the area around the
+   * old and the new highlight is redrawn, the cached layers are kept.
+   */
+  public final void setSelectedAxis(int index) {
+    if (index < -1 || index >= axis.size()) {
+      throw new IndexOutOfBoundsException("index = " + index + ", size = " + axis.size());
+    }
+    if (index != selectedAxis) {
+      invalidateHighlight(selectedAxis);
+      selectedAxis = index;
+      invalidateHighlight(index);
+    }
+  }
+
+  /**
+   * Makes the view clickable by axis: a tap selects the axis under it and notifies {@code listener}.
+   */
+  public final void setOnAxisClickListener(OnAxisClickListener listener) {
+    axisClickListener = listener;
+  }
+
+  /**
+   * Captures the current data, style and size, e.g. to render the same chart with {@link RadarChartRenderer} on a
+   * background thread. The scale is captured as resolved, so auto-sizing is not applied again.
+   */
+  public final RadarChartSnapshot snapshot() {
     final int count = axis.size();
-    if (count < 3 || circlesOnly) {
-      drawCircles(canvas);
+    final RadarChartSnapshot.Builder builder = new RadarChartSnapshot.Builder()
+        .size(getWidth(), getHeight())
+        .padding(getPaddingLeft(), getPaddingTop(), getPaddingRight(), getPaddingBottom())
+        .axis(copyOf(axis.names(), count), copyOf(axis.values(), count))
+        .startColor(frame.startColor)
+        .endColor(frame.endColor)
+        .axisColor(frame.axisColor)
+        .axisMax(axisMax)
+        .axisTick(axisTick)
+        .axisWidth(frame.axisWidth)
+        .chartColor(frame.chartColor)
+        .chartWidth(frame.chartWidth)
+        .chartStyle(frame.chartStyle.ordinal())
+        .circlesOnly(frame.circlesOnly)
+        .smoothGradient(frame.smoothGradient)
+        .labelCollisionAvoidance(frame.labelCollisionAvoidance)
+        .textSize(frame.textPaint.getTextSize());
+    for (int i = 0; i < series.size; i++) {
+      builder.addSeries(series.names[i], copyOf(series.values[i], count), series.colors[i], series.widths[i],
+          series.styles[i]);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Turns per-phase timings and counters on, the listener is called after every frame. Pass {@code null} to turn them
+   * off again, instrumentation then costs one field read per phase.
+   */
+  public final void setMetricsListener(RadarChartMetrics.Listener listener) {
+    metricsListener = listener;
+    metrics = listener == null ? null : metrics == null ? new RadarChartMetrics() : metrics;
+  }
+
+  /**
+   * Returns the metrics collected since the listener was set, {@code null} if they are off.
+   */
+  public final RadarChartMetrics getMetrics() {
+    return metrics;
+  }
+
+  @Override public void invalidate() {
+    if (metrics != null) {
+      metrics.onInvalidate();
+    }
+    super.invalidate();
+  }
+
+  @Override public boolean onTouchEvent(MotionEvent event) {
+    if (axisClickListener == null) {
+      return super.onTouchEvent(event);
+    }
+    switch (event.getActionMasked()) {
+      case MotionEvent.ACTION_DOWN:
+        return axisAt(event.getX(), event.getY()) >= 0;
+      case MotionEvent.ACTION_UP:
+        final int index = axisAt(event.getX(), event.getY());
+        if (index >= 0) {
+          setSelectedAxis(index);
+          performClick();
+        }
+        return true;
+      default:
+        return true;
+    }
+  }
+
+  /**
+   * Reports the selected axis to the {@link OnAxisClickListener}, after the usual click handling and accessibility
+   * event. Called for a tap on an axis, accessibility services can call it to click the selected axis.
+   */
+  @Override public boolean performClick() {
+    final boolean handled = super.performClick();
+    if (axisClickListener != null && selectedAxis >= 0) {
+      axisClickListener.onAxisClick(this, selectedAxis);
+      return true;
+    }
+    return handled;
+  }
+
+  @Override public void invalidate(int l, int t, int r, int b) {
+    if (metrics != null) {
+      metrics.onInvalidate();
+    }
+    super.invalidate(l, t, r, b);
+  }
+
+  @Override protected Parcelable onSaveInstanceState() {
+    final SavedState state = new SavedState(super.onSaveInstanceState());
+    // a rotation in the middle of an animation lands on its target
+    final boolean animating = transition.isRunning();
+    final boolean toNames = animating && transition.endNames != null;
+    final int count = toNames ? transition.endNames.length : axis.size();
+    final int[] source = toNames ? axisSources(transition.endNames) : null;
+    if (toNames) {
+      state.names = transition.endNames.clone();
+      state.values = transition.endValues.clone();
     } else {
-      drawPolygons(canvas, count);
+      state.names = copyOf(axis.names(), count);
+      state.values = copyOf(animating ? transition.to : axis.values(), count);
+    }
+    state.scale = new float[] {
+        animating ? transition.toMax : axisMax, axisTick, frame.textPaint.getTextSize()
+    };
+    state.style = new int[] {
+        frame.startColor, frame.endColor, frame.axisColor, frame.axisWidth, frame.chartColor, frame.chartWidth,
+        frame.chartStyle.ordinal(), frame.historyColor, frame.highlightColor, frame.bandColor,
+        (autoSize ? SavedState.AUTO_SIZE : 0) | (frame.circlesOnly ? SavedState.CIRCLES_ONLY : 0)
+            | (frame.smoothGradient ? SavedState.SMOOTH_GRADIENT : 0)
+            | (frame.labelCollisionAvoidance ? SavedState.LABEL_COLLISION_AVOIDANCE : 0), history.capacity(),
+        toNames ? -1 : selectedAxis
+    };
+    state.seriesNames = copyOf(series.names, series.size);
+    state.seriesColors = copyOf(series.colors, series.size);
+    state.seriesWidths = copyOf(series.widths, series.size);
+    state.seriesStyles = copyOf(series.styles, series.size);
+    state.seriesValues = new float[series.size * count];
+    for (int s = 0; s < series.size; s++) {
+      for (int i = 0; i < count; i++) {
+        state.seriesValues[s * count + i] = series.values[s][source == null ? i : source[i]];
+      }
+    }
+    // the band is dropped with the old axes when a names transition ends
+    if (bandLower != null && !toNames) {
+      state.bandLower = bandLower.clone();
+      state.bandUpper = bandUpper.clone();
     }
-    drawValues(canvas, count);
-    drawAxis(canvas);
+    return state;
+  }
+
+  /**
+   * Restores data, scale and style in one go: every stage is only marked dirty, so the geometry is rebuilt once, on
+   * the first frame after the new size is known.
+   */
+  @Override protected void onRestoreInstanceState(Parcelable state) {
+    if (!(state instanceof SavedState)) {
+      super.onRestoreInstanceState(state);
+      return;
+    }
+    final SavedState saved = (SavedState) state;
+    super.onRestoreInstanceState(saved.getSuperState());
+    cancelAnimation();
+    final int count = saved.names.length;
+    axis.set(saved.names, saved.values);
+    series.clear();
+    series.setAxisCount(count);
+    for (int i = 0; i < saved.seriesNames.length; i++) {
+      series.put(saved.seriesNames[i], copyOfRange(saved.seriesValues, i * count, (i + 1) * count),
+          saved.seriesColors[i], saved.seriesWidths[i], saved.seriesStyles[i]);
+    }
+    bandLower = saved.bandLower;
+    bandUpper = saved.bandUpper;
+
+    final int[] style = saved.style;
+    frame.startColor = style[0];
+    frame.endColor = style[1];
+    frame.axisColor = style[2];
+    frame.axisWidth = style[3];
+    frame.chartColor = style[4];
+    frame.chartWidth = style[5];
+    frame.chartStyle = RadarFrame.STYLES[style[6]];
+    frame.historyColor = style[7];
+    frame.highlightColor = style[8];
+    frame.bandColor = style[9];
+    autoSize = (style[10] & SavedState.AUTO_SIZE) != 0;
+    frame.circlesOnly = (style[10] & SavedState.CIRCLES_ONLY) != 0;
+    frame.smoothGradient = (style[10] & SavedState.SMOOTH_GRADIENT) != 0;
+    frame.labelCollisionAvoidance = (style[10] & SavedState.LABEL_COLLISION_AVOIDANCE) != 0;
+    history.setCapacity(style[11], count);
+    history.clear();
+    selectedAxis = style[12] < count ? style[12] : -1;
+    axisMax = saved.scale[0];
+    axisTick = saved.scale[1];
+    if (saved.scale[2] != frame.textPaint.getTextSize()) {
+      setTextSize(saved.scale[2]);
+    }
+    markDirty(DIRTY_ALL);
+  }
+
+  @Override protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+    width = w;
+    height = h;
+    markDirty(DIRTY_SIZE);
+  }
+
+  @Override protected void onDraw(Canvas canvas) {
+    if (editDepth > 0) {
+      throw new IllegalStateException("edit() without commit()");
+    }
+    final RadarChartMetrics metrics = this.metrics;
+    if (metrics != null) {
+      metrics.beginFrame();
+    }
+    inFrame = true;
+    final long frameStart = startPhase();
+    validate();
+    if (frame.isReady()) {
+      drawFrame(canvas);
+    }
+    inFrame = false;
+    if (metrics != null) {
+      endPhase(RadarChartMetrics.PHASE_FRAME, frameStart);
+      metricsListener.onFrame(metrics);
+    }
+  }
+
+  @Override protected void onAttachedToWindow() {
+    super.onAttachedToWindow();
+    // callbacks posted while detached may have been dropped
+    if (published.get() != null) {
+      publishScheduled.set(true);
+      postPublished();
+    }
+  }
+
+  @Override protected void onDetachedFromWindow() {
+    super.onDetachedFromWindow();
+    cancelAnimation();
+    gridLayer.release();
+    axisLayer.release();
   }
 
   @Override protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
@@ -285,163 +884,518 @@ public class RadarChartView extends View {
     }
   }
 
-  private void buildRings() {
-    @SuppressWarnings("NumericCastThatLosesPrecision") //
-    final int ringsCount = (int) max(ceil(axisMaxInternal / axisTickInternal), 1);
-    if (ringsCount == 0) {
+  private void onAnimationFrame() {
+    if (!transition.isRunning()) {
       return;
     }
-
-    rings = new Ring[ringsCount];
-    if (ringsCount == 1) {
-      rings[0] = new Ring(axisMaxInternal, axisMaxInternal, startColor);
+    final float fraction = transition.fraction(SystemClock.uptimeMillis());
+    transition.apply(interpolator == null ? fraction : interpolator.getInterpolation(fraction));
+    axis.setValues(transition.current);
+    int flags = DIRTY_VALUES;
+    if (transition.currentMax != axisMax) {
+      axisMax = transition.currentMax;
+      flags |= DIRTY_SCALE;
+    }
+    if (fraction < 1) {
+      postAnimationFrame();
     } else {
-      for (int i = 0; i < ringsCount; i++) {
-        rings[i] = new Ring(axisTickInternal * (i + 1), axisTickInternal, gradient(startColor, endColor, i, ringsCount));
+      if (transition.endNames != null) {
+        final int[] source = axisSources(transition.endNames);
+        axis.set(transition.endNames, transition.endValues);
+        series.remapAxes(source);
+        onAxisNamesChanged();
+        flags |= DIRTY_AXIS_COUNT;
       }
-      rings[ringsCount - 1] = new Ring(axisMaxInternal, axisMaxInternal - rings[ringsCount - 2].radius, endColor);
+      transition.stop();
     }
+    markDirty(flags);
+  }
 
-    buildVertices();
+  private void publish(Published update) {
+    published.set(update);
+    if (publishScheduled.compareAndSet(false, true)) {
+      postPublished();
+    }
   }
 
-  private void buildVertices() {
-    final int count = axis.size();
-    for (Ring ring : rings) {
-      ring.vertices = createPoints(count, ring.fixedRadius, centerX, centerY);
+  /**
+   * Runs on the UI thread as an animation callback, so the update is drawn in the frame it was scheduled for.
+   */
+  private void onPublished() {
+    publishScheduled.set(false);
+    final Published update = published.getAndSet(null);
+    if (update == null) {
+      return;
+    }
+    if (update.names != null) {
+      setAxis(update.names, update.values);
+    } else if (update.values.length == axis.size()) {
+      setAxisValues(update.values);
     }
-    vertices = createPoints(count, axisMaxInternal, centerX, centerY);
   }
 
-  private void calcAxisTickInternal() {
-    axisTickInternal = axisTick * ratio;
+  private void postPublished() {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+      postOnAnimation(applyPublished);
+    } else {
+      post(applyPublished);
+    }
   }
 
-  private void calcRatio() {
-    ratio = axisMaxInternal > 0 ? axisMaxInternal / axisMax : 1;
+  private void postAnimationFrame() {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+      postOnAnimation(animationFrame);
+    } else {
+      postDelayed(animationFrame, FRAME_DELAY);
+    }
   }
 
-  private void calculateCenter() {
-    centerX = (getMeasuredWidth() >> 1) + getPaddingLeft() - getPaddingRight();
-    centerY = (getMeasuredHeight() >> 1) + getPaddingTop() - getPaddingBottom();
+  private void startTransition(float[] from, float[] to, int count, long durationMs, Interpolator interpolator) {
+    cancelAnimation();
+    final float toMax = autoSize && count > 0 ? targetMax(to, count) : axisMax;
+    this.interpolator = interpolator;
+    transition.start(from, to, count, axisMax, toMax, SystemClock.uptimeMillis(), durationMs);
+    postAnimationFrame();
   }
 
-  private void drawAxis(Canvas canvas) {
-    final Iterator<String> axisNames = axis.keySet()
-        .iterator();
-    mutatePaint(paint, axisColor, axisWidth, STROKE);
-    final int length = vertices.length;
-    for (int i = 0; i < length; i += 2) {
-      path.reset();
-      path.moveTo(centerX, centerY);
-      final float pointX = vertices[i];
-      final float pointY = vertices[i + 1];
-      path.lineTo(pointX, pointY);
-      path.close();
-      canvas.drawPath(path, paint);
+  private void drawFrame(Canvas canvas) {
+    int drawn = 0;
+    if (!gridLayer.isValid()) {
+      final long start = startPhase();
+      drawn += RadarChartRenderer.drawGrid(gridLayer.begin(canvas, width, height), frame);
+      gridLayer.end();
+      endPhase(RadarChartMetrics.PHASE_DRAW_GRID, start);
+    }
+    gridLayer.draw(canvas);
+    final long start = startPhase();
+    if (history.size() > 0) {
+      drawn += RadarChartRenderer.drawHistory(canvas, frame, history);
+    }
+    if (frame.bandLower != null) {
+      drawn += RadarChartRenderer.drawBand(canvas, frame);
+    }
+    drawn += RadarChartRenderer.drawValues(canvas, frame);
+    endPhase(RadarChartMetrics.PHASE_DRAW_VALUES, start);
+    if (!axisLayer.isValid()) {
+      final long axisStart = startPhase();
+      drawn += RadarChartRenderer.drawAxis(axisLayer.begin(canvas, width, height), frame);
+      axisLayer.end();
+      endPhase(RadarChartMetrics.PHASE_DRAW_AXIS, axisStart);
+    }
+    axisLayer.draw(canvas);
+    if (selectedAxis >= 0) {
+      drawn += RadarChartRenderer.drawHighlight(canvas, frame, selectedAxis, axis.values(), series.values);
+    }
+    if (metrics != null) {
+      metrics.onPathsDrawn(drawn);
+    }
+  }
+
+  private long startPhase() {
+    return metrics == null || !inFrame ? 0 : System.nanoTime();
+  }
 
-      final String axisName = axisNames.next();
-      textPaint.getTextBounds(axisName, 0, axisName.length(), rect);
-      final float x = pointX > centerX ? pointX : pointX - rect.width();
-      final float y = pointY > centerY ? pointY + rect.height() : pointY;
-      canvas.drawText(axisName, x, y, textPaint);
+  /**
+   * Records the phase begun at {@code start} and returns the start of the next one.
+   */
+  private long endPhase(int phase, long start) {
+    if (metrics == null || !inFrame) {
+      return 0;
     }
+    final long now = System.nanoTime();
+    metrics.record(phase, now - start);
+    return now;
   }
 
-  private void drawCircles(Canvas canvas) {
-    for (final Ring ring : rings) {
-      mutatePaint(paint, ring.color, ring.width + 2, STROKE);
-      canvas.drawCircle(centerX, centerY, ring.fixedRadius, paint);
+  /**
+   * Invalidates the bounds of the highlight of {@code index}: the spoke and every data vertex on it.
+   */
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  private void invalidateHighlight(int index) {
+    if (index < 0 || !frame.isReady() || index >= frame.angles.count) {
+      return;
+    }
+    final float cos = frame.angles.cos[index];
+    final float sin = frame.angles.sin[index];
+    float radius = max(frame.axisMaxInternal, axis.values()[index] * frame.ratio);
+    for (int i = 0; i < series.size; i++) {
+      radius = max(radius, series.values[i][index] * frame.ratio);
     }
+    final float x = radius * cos + frame.centerX;
+    final float y = radius * sin + frame.centerY;
+    final int pad = frame.chartWidth * 2 + 1;
+    invalidate((int) min(x, frame.centerX) - pad, (int) min(y, frame.centerY) - pad,
+        (int) max(x, frame.centerX) + pad + 1, (int) max(y, frame.centerY) + pad + 1);
   }
 
-  private void drawPolygons(Canvas canvas, int count) {
-    for (final Ring ring : rings) {
-      final float[] points = ring.vertices;
-      final float startX = points[0];
-      final float startY = points[1];
+  private void copyStyle(RadarChartStyle style) {
+    frame.setStyle(style);
+    axisMax = style.axisMax;
+    axisTick = style.axisTick;
+    autoSize = style.autoSize;
+  }
 
-      path.reset();
-      path.moveTo(startX, startY);
-      path.setLastPoint(startX, startY);
-      for (int j = 2; j < count + count; j += 2) {
-        path.lineTo(points[j], points[j + 1]);
-      }
-      path.close();
 
-      //noinspection NumericCastThatLosesPrecision
-      mutatePaint(paint, ring.color, (float) (ring.width * cos(PI / count)) + 2, STROKE);
-      canvas.drawPath(path, paint);
+  /**
+   * Returns the position of every axis of {@code names} in the current axes, all of which must be there.
+   */
+  private int[] axisSources(String[] names) {
+    final int[] source = new int[names.length];
+    for (int i = 0; i < names.length; i++) {
+      source[i] = axis.indexOf(names[i]);
     }
+    return source;
   }
 
-  private void drawValues(Canvas canvas, int count) {
-    if (count == 0) {
-      return;
+  private float dataMax() {
+    return max(axis.max(), overlayMax());
+  }
+
+  /**
+   * Returns the auto-sized scale of a transition to {@code to}.
+   */
+  private float targetMax(float[] to, int count) {
+    float max = overlayMax();
+    for (int i = 0; i < count; i++) {
+      max = max(max, to[i]);
+    }
+    return max;
+  }
+
+  /**
+   * Returns the largest value of the series and the band.
+   */
+  private float overlayMax() {
+    float max = series.max();
+    if (bandUpper != null) {
+      for (int i = 0; i < bandUpper.length; i++) {
+        max = max(max, max(bandLower[i], bandUpper[i]));
+      }
     }
+    return max;
+  }
 
-    Float[] values = new Float[count];
-    values = axis.values()
-        .toArray(values);
-    final float[] first = createPoint(values[0] * ratio, -PI / 2, centerX, centerY);
-    final float firstX = first[0];
-    final float firstY = first[1];
-    path.reset();
-    path.setLastPoint(firstX, firstY);
+  private void ensureBand(int count) {
+    if (bandLower == null || bandLower.length != count) {
+      bandLower = new float[count];
+      bandUpper = new float[count];
+    }
+  }
 
-    if (count == 1) {
-      path.moveTo(centerX, centerY);
-      path.lineTo(firstX, firstY);
+  /**
+   * Schedules a rebuild of {@code flags}. When only values have changed since the last frame, only the area covered by
+   * the old and the new value polygons is redrawn; the cached layers clip to it.
+   */
+  private void markDirty(int flags) {
+    dirty |= flags;
+    if (dirty == DIRTY_VALUES && frame.isReady() && history.size() == 0) {
+      frame.measureValues(axis.values(), series.values, series.size, series.widths, bandLower, bandUpper,
+          valuesBounds);
+      valuesBounds.union(frame.valuesBounds);
+      invalidate(valuesBounds.left, valuesBounds.top, valuesBounds.right, valuesBounds.bottom);
     } else {
-      path.moveTo(firstX, firstY);
-      for (int i = 1; i < count; i++) {
-        final float[] point = createPoint(values[i] * ratio, (2 * PI / count) * i - PI / 2, centerX, centerY);
-        path.lineTo(point[0], point[1]);
-      }
+      invalidate();
     }
-    path.close();
+  }
 
-    mutatePaint(paint, chartColor, chartWidth, chartStyle);
-    canvas.drawPath(path, paint);
+  private void onAxisNamesChanged() {
+    series.setAxisCount(axis.size());
+    history.setCapacity(history.capacity(), axis.size());
+    history.clear();
+    bandLower = null;
+    bandUpper = null;
+    selectedAxis = -1;
+    // inside an edit the labels have to wait for the new axis count, both are rebuilt on commit
+    if (editDepth > 0) {
+      editNames = true;
+    } else {
+      dirty |= DIRTY_LABELS;
+    }
   }
 
   private void onAxisChanged() {
+    cancelAnimation();
+    onOverlayChanged();
+  }
+
+  /**
+   * Applies a change of the series or the band. A running animation keeps going, only its target scale follows.
+   */
+  private void onOverlayChanged() {
+    if (editDepth > 0) {
+      editPending = true;
+      return;
+    }
+    if (transition.isRunning()) {
+      if (autoSize && transition.to.length > 0) {
+        transition.toMax = targetMax(transition.to, transition.to.length);
+      }
+      markDirty(DIRTY_VALUES);
+      return;
+    }
+    int flags = DIRTY_VALUES;
+    if (frame.angles == null || frame.angles.count != axis.size()) {
+      flags |= DIRTY_AXIS_COUNT;
+    }
     if (autoSize && !axis.isEmpty()) {
-      setAxisMaxInternal(Collections.max(axis.values()));
-    } else {
-      buildVertices();
-      invalidate();
+      final float max = dataMax();
+      if (max != axisMax) {
+        axisMax = max;
+        flags |= DIRTY_SCALE;
+      }
     }
+    markDirty(flags);
   }
 
-  private void setAxisMaxInternal(float axisMax) {
-    this.axisMax = axisMax;
-    calcRatio();
-    calcAxisTickInternal();
-    buildRings();
-    invalidate();
+  /**
+   * Returns {@code true} if {@code names} lists the axes in the order they have in {@code union}.
+   */
+  private static boolean isPrefixOrder(String[] union, String[] names) {
+    for (int i = 0; i < names.length; i++) {
+      if (!union[i].equals(names[i])) {
+        return false;
+      }
+    }
+    return true;
   }
 
-  private static class Ring {
-    final float width;
-    final float radius;
-    final float fixedRadius;
-    final int   color;
-    float[] vertices;
+  /**
+   * Recomputes only the cached stages which depend on what has changed since the last call.
+   */
+  private void validate() {
+    final int dirty = this.dirty;
+    if (dirty == 0) {
+      return;
+    }
+    this.dirty = 0;
+    if (metrics != null && inFrame) {
+      metrics.onRebuild();
+    }
+
+    long start = startPhase();
+    if ((dirty & DIRTY_SIZE) != 0) {
+      frame.setBounds(width, height, getPaddingLeft(), getPaddingTop(), getPaddingRight(), getPaddingBottom());
+      start = endPhase(RadarChartMetrics.PHASE_SIZE, start);
+    }
+    if ((dirty & DIRTY_AXIS_COUNT) != 0) {
+      frame.setAxisCount(axis.size());
+      // the angle table is not part of the next phase
+      start = startPhase();
+    }
+    if ((dirty & (DIRTY_SIZE | DIRTY_SCALE)) != 0) {
+      frame.setScale(axisMax, axisTick);
+      start = endPhase(RadarChartMetrics.PHASE_RINGS, start);
+    } else if ((dirty & DIRTY_STYLE) != 0 && frame.isReady()) {
+      frame.colorRings();
+      start = endPhase(RadarChartMetrics.PHASE_RINGS, start);
+    }
+    if (!frame.isReady()) {
+      this.dirty = dirty;
+      return;
+    }
+    if ((dirty & (DIRTY_SIZE | DIRTY_SCALE | DIRTY_AXIS_COUNT)) != 0) {
+      frame.buildVertices();
+      start = endPhase(RadarChartMetrics.PHASE_VERTICES, start);
+    }
+    if ((dirty & (DIRTY_SIZE | DIRTY_AXIS_COUNT)) != 0) {
+      frame.buildSpokes();
+      start = endPhase(RadarChartMetrics.PHASE_SPOKES, start);
+    }
+    if ((dirty & (DIRTY_SIZE | DIRTY_AXIS_COUNT | DIRTY_LABELS)) != 0) {
+      if ((dirty & DIRTY_LABELS) != 0) {
+        frame.measureLabels(axis.names(), axis.size());
+      }
+      frame.placeLabels();
+      start = endPhase(RadarChartMetrics.PHASE_LABELS, start);
+    }
+    if ((dirty & (DIRTY_SIZE | DIRTY_SCALE | DIRTY_AXIS_COUNT | DIRTY_VALUES)) != 0) {
+      frame.setSeriesStyles(series.size, series.colors, series.widths, series.styles);
+      frame.setBand(bandLower, bandUpper);
+      frame.buildValues(axis.values(), series.values);
+      endPhase(RadarChartMetrics.PHASE_VALUES, start);
+    }
+    if ((dirty & (DIRTY_SIZE | DIRTY_SCALE | DIRTY_AXIS_COUNT | DIRTY_STYLE)) != 0) {
+      gridLayer.invalidate();
+    }
+    if ((dirty & (DIRTY_SIZE | DIRTY_AXIS_COUNT | DIRTY_LABELS | DIRTY_STYLE)) != 0) {
+      axisLayer.invalidate();
+    }
+  }
+
+  public final class Editor {
+    Editor() {
+    }
+
+    public Editor put(String axisName, float value) {
+      addOrReplace(axisName, value);
+      return this;
+    }
 
-    Ring(float radius, float width, int color) {
-      this.radius = radius;
-      this.width = width;
-      this.color = color;
-      fixedRadius = radius - width / 2;
+    public Editor remove(String axisName) {
+      RadarChartView.this.remove(axisName);
+      return this;
     }
 
-    @Override public String toString() {
-      return "Ring{" +
-          "radius=" + radius +
-          ", width=" + width +
-          ", fixedRadius=" + fixedRadius +
-          '}';
+    public Editor clear() {
+      clearAxis();
+      return this;
+    }
+
+    public Editor setValues(float[] values) {
+      setAxisValues(values);
+      return this;
+    }
+
+    public void commit() {
+      if (editDepth == 0) {
+        throw new IllegalStateException("commit() without edit()");
+      }
+      if (--editDepth == 0 && editPending) {
+        editPending = false;
+        if (editNames) {
+          editNames = false;
+          dirty |= DIRTY_AXIS_COUNT | DIRTY_LABELS;
+        }
+        // axis mutations have cancelled any animation already
+        onOverlayChanged();
+      }
+    }
+  }
+
+  /**
+   * Receives taps on the axes of a chart with {@link #setOnAxisClickListener(OnAxisClickListener)}.
+   */
+  public interface OnAxisClickListener {
+    void onAxisClick(RadarChartView view, int axis);
+  }
+
+  /**
+   * Result of {@link #nearestValuePoint(float, float, ValuePoint)}, reusable across calls.
+   */
+  public static final class ValuePoint {
+    int   axis;
+    int   series;
+    float x;
+    float y;
+    float distance;
+
+    public int getAxis() {
+      return axis;
+    }
+
+    /**
+     * Returns the index of the series the vertex belongs to, {@code -1} for the main values.
+     */
+    public int getSeries() {
+      return series;
+    }
+
+    public float getX() {
+      return x;
+    }
+
+    public float getY() {
+      return y;
+    }
+
+    public float getDistance() {
+      return distance;
+    }
+
+    void consider(RadarFrame frame, float touchX, float touchY, int axis, int series, float value) {
+      final float radius = value * frame.ratio;
+      final float x = radius * frame.angles.cos[axis] + frame.centerX;
+      final float y = radius * frame.angles.sin[axis] + frame.centerY;
+      final float distance = (float) StrictMath.hypot(x - touchX, y - touchY);
+      if (distance < this.distance) {
+        this.axis = axis;
+        this.series = series;
+        this.x = x;
+        this.y = y;
+        this.distance = distance;
+      }
+    }
+  }
+
+  /**
+   * Instance state as a handful of packed primitive arrays, so writing and reading it costs a few bulk copies.
+   */
+  static final class SavedState extends BaseSavedState {
+    static final int AUTO_SIZE                 = 1;
+    static final int CIRCLES_ONLY              = 1 << 1;
+    static final int SMOOTH_GRADIENT           = 1 << 2;
+    static final int LABEL_COLLISION_AVOIDANCE = 1 << 3;
+
+    public static final Creator<SavedState> CREATOR = new Creator<SavedState>() {
+      @Override public SavedState createFromParcel(Parcel in) {
+        return new SavedState(in);
+      }
+
+      @Override public SavedState[] newArray(int size) {
+        return new SavedState[size];
+      }
+    };
+
+    String[] names;
+    float[]  values;
+    /** {@code axisMax, axisTick, textSize} */
+    float[]  scale;
+    /** Colors, widths, the chart style ordinal, flags, history size and the selected axis. */
+    int[]    style;
+    String[] seriesNames;
+    int[]    seriesColors;
+    float[]  seriesWidths;
+    int[]    seriesStyles;
+    /** Values of all series, {@code names.length} per series. */
+    float[]  seriesValues;
+    float[]  bandLower;
+    float[]  bandUpper;
+
+    SavedState(Parcelable superState) {
+      super(superState);
+    }
+
+    SavedState(Parcel in) {
+      super(in);
+      names = in.createStringArray();
+      values = in.createFloatArray();
+      scale = in.createFloatArray();
+      style = in.createIntArray();
+      seriesNames = in.createStringArray();
+      seriesColors = in.createIntArray();
+      seriesWidths = in.createFloatArray();
+      seriesStyles = in.createIntArray();
+      seriesValues = in.createFloatArray();
+      bandLower = in.createFloatArray();
+      bandUpper = in.createFloatArray();
+    }
+
+    @Override public void writeToParcel(Parcel out, int flags) {
+      super.writeToParcel(out, flags);
+      out.writeStringArray(names);
+      out.writeFloatArray(values);
+      out.writeFloatArray(scale);
+      out.writeIntArray(style);
+      out.writeStringArray(seriesNames);
+      out.writeIntArray(seriesColors);
+      out.writeFloatArray(seriesWidths);
+      out.writeIntArray(seriesStyles);
+      out.writeFloatArray(seriesValues);
+      out.writeFloatArray(bandLower);
+      out.writeFloatArray(bandUpper);
+    }
+  }
+
+  /**
+   * Immutable axes published from another thread, {@code names} is {@code null} when only the values change.
+   */
+  private static final class Published {
+    final String[] names;
+    final float[]  values;
+
+    Published(String[] names, float[] values) {
+      this.names = names;
+      this.values = values;
     }
   }
 }
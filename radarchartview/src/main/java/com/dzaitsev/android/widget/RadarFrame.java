@@ -0,0 +1,304 @@
+package com.dzaitsev.android.widget;
+
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.RadialGradient;
+import android.graphics.Rect;
+import android.graphics.Shader;
+import android.text.TextPaint;
+
+import static android.graphics.Color.BLACK;
+import static android.graphics.Paint.Style.STROKE;
+import static com.dzaitsev.android.widget.RadarGeometry.angles;
+import static com.dzaitsev.android.widget.Utils.createPaint;
+import static java.lang.StrictMath.max;
+import static java.lang.StrictMath.min;
+
+/**
+ * Resolved style and retained geometry of one chart, drawn by {@link RadarChartRenderer}.
+ * <p>
+ * Every stage is rebuilt separately so that a host can recompute only what has changed. Not thread-safe: a frame is
+ * owned either by a {@link RadarChartView} or by a single rendering thread.
+ */
+@SuppressWarnings("ClassWithTooManyFields")
+final class RadarFrame {
+  /** Spokes closer than this many pixels at the outer ring are thinned out. */
+  private static final float MIN_SPOKE_SPACING = 2;
+
+  static final Paint.Style[] STYLES = Paint.Style.values();
+
+  int         startColor;
+  int         endColor;
+  int         axisColor;
+  int         axisWidth;
+  int         chartColor;
+  int         chartWidth;
+  Paint.Style chartStyle = STROKE;
+  int         historyColor;
+  int         highlightColor;
+  int         bandColor;
+  boolean     circlesOnly;
+  boolean     smoothGradient;
+  boolean     labelCollisionAvoidance;
+
+  RadarChartStyle style;
+  TextPaint       textPaint;
+  Paint           paint;
+
+  final RingSet     rings;
+  final Path        path;
+  final Path        valuesPath;
+  final Path        historyPath;
+  final Path        bandPath;
+  final LabelLayout labels;
+  final Rect        rect;
+  /** Bounds of the value polygons as of the last {@link #buildValues(float[], float[][])}. */
+  final Rect        valuesBounds;
+
+  int                  centerX;
+  int                  centerY;
+  float                axisMaxInternal;
+  float                axisTickInternal;
+  float                ratio;
+  RadarGeometry.Angles angles;
+  float[]              vertices;
+  float[]              spokes;
+  int                  labelStride;
+  String[]             names;
+  float[]              points;
+  Path[]               seriesPaths;
+  int                  seriesCount;
+  int[]                seriesColors;
+  float[]              seriesWidths;
+  int[]                seriesStyles;
+  float[]              bandLower;
+  float[]              bandUpper;
+
+  private Shader shader;
+  private float  shaderX;
+  private float  shaderY;
+  private float  shaderRadius;
+  private int    shaderStart;
+  private int    shaderEnd;
+
+  RadarFrame() {
+    this(new TextPaint(Paint.ANTI_ALIAS_FLAG), createPaint(BLACK));
+  }
+
+  RadarFrame(TextPaint textPaint, Paint paint) {
+    this.textPaint = textPaint;
+    this.paint = paint;
+    rings = new RingSet();
+    path = new Path();
+    valuesPath = new Path();
+    historyPath = new Path();
+    bandPath = new Path();
+    bandPath.setFillType(Path.FillType.EVEN_ODD);
+    labels = new LabelLayout();
+    rect = new Rect();
+    valuesBounds = new Rect();
+    seriesPaths = new Path[0];
+  }
+
+  /**
+   * Takes the appearance of {@code style}, sharing its paints until a setter has to change them.
+   */
+  void setStyle(RadarChartStyle style) {
+    this.style = style;
+    textPaint = style.textPaint;
+    paint = style.paint;
+    startColor = style.startColor;
+    endColor = style.endColor;
+    axisColor = style.axisColor;
+    axisWidth = style.axisWidth;
+    chartColor = style.chartColor;
+    chartWidth = style.chartWidth;
+    chartStyle = style.chartStyle;
+    circlesOnly = style.circlesOnly;
+    smoothGradient = style.smoothGradient;
+    labelCollisionAvoidance = style.labelCollisionAvoidance;
+    historyColor = style.historyColor;
+    highlightColor = style.highlightColor;
+    bandColor = style.bandColor;
+  }
+
+  boolean isReady() {
+    return rings.count > 0 && angles != null;
+  }
+
+  void setBounds(int width, int height, int paddingLeft, int paddingTop, int paddingRight, int paddingBottom) {
+    centerX = (width >> 1) + paddingLeft - paddingRight;
+    centerY = (height >> 1) + paddingTop - paddingBottom;
+    axisMaxInternal = max(0, min(width - paddingRight - paddingLeft, height - paddingBottom - paddingTop)) * 0.5F;
+  }
+
+  void setAxisCount(int count) {
+    angles = angles(count);
+  }
+
+  /**
+   * Rebuilds the ring radii for the given scale, the caller has to rebuild the ring vertices afterwards.
+   */
+  void setScale(float axisMax, float axisTick) {
+    ratio = axisMaxInternal > 0 ? axisMaxInternal / axisMax : 1;
+    axisTickInternal = axisTick * ratio;
+    rings.layout(axisMaxInternal, axisTickInternal);
+    colorRings();
+  }
+
+  void colorRings() {
+    final boolean shared = style != null && style.startColor == startColor && style.endColor == endColor;
+    rings.color(startColor, endColor, shared && rings.count > 0 ? style.ringColors(rings.count) : null);
+  }
+
+  /**
+   * Returns the smooth background gradient, which is only rebuilt when the size or the colors have changed.
+   */
+  Shader gradientShader() {
+    if (shader == null || shaderX != centerX || shaderY != centerY || shaderRadius != axisMaxInternal
+        || shaderStart != startColor || shaderEnd != endColor) {
+      shaderX = centerX;
+      shaderY = centerY;
+      shaderRadius = axisMaxInternal;
+      shaderStart = startColor;
+      shaderEnd = endColor;
+      shader = new RadialGradient(centerX, centerY, axisMaxInternal, startColor, endColor, Shader.TileMode.CLAMP);
+    }
+    return shader;
+  }
+
+  void buildVertices() {
+    rings.buildVertices(angles, centerX, centerY);
+  }
+
+  void buildSpokes() {
+    vertices = RadarGeometry.ring(angles, axisMaxInternal, centerX, centerY, vertices);
+    final int spokeStride = RadarGeometry.stride(angles.count, axisMaxInternal, MIN_SPOKE_SPACING);
+    spokes = RadarGeometry.spokes(angles, axisMaxInternal, centerX, centerY, spokeStride, spokes);
+  }
+
+  /**
+   * Measures the first {@code count} labels of {@code names}, the array is kept for drawing.
+   */
+  void measureLabels(String[] names, int count) {
+    this.names = names;
+    labels.setCount(count);
+    for (int i = 0; i < count; i++) {
+      final String axisName = names[i];
+      textPaint.getTextBounds(axisName, 0, axisName.length(), rect);
+      labels.widths[i] = rect.width();
+      labels.heights[i] = rect.height();
+    }
+  }
+
+  void placeLabels() {
+    labels.place(vertices, angles, centerX, centerY, labelCollisionAvoidance);
+    labelStride = RadarGeometry.stride(angles.count, axisMaxInternal, labels.maxHeight());
+  }
+
+  void setSeriesStyles(int count, int[] colors, float[] widths, int[] styles) {
+    seriesCount = count;
+    seriesColors = colors;
+    seriesWidths = widths;
+    seriesStyles = styles;
+  }
+
+  void buildValues(float[] values, float[][] series) {
+    buildPath(valuesPath, values, 0);
+    if (seriesPaths.length < seriesCount) {
+      final Path[] paths = new Path[seriesCount];
+      System.arraycopy(seriesPaths, 0, paths, 0, seriesPaths.length);
+      for (int i = seriesPaths.length; i < seriesCount; i++) {
+        paths[i] = new Path();
+      }
+      seriesPaths = paths;
+    }
+    for (int i = 0; i < seriesCount; i++) {
+      buildPath(seriesPaths[i], series[i], 0);
+    }
+    if (bandLower != null) {
+      bandPath.rewind();
+      addPolygon(bandPath, bandUpper, 0);
+      addPolygon(bandPath, bandLower, 0);
+    }
+    measureValues(values, series, seriesCount, seriesWidths, bandLower, bandUpper, valuesBounds);
+  }
+
+  /**
+   * Sets the per-axis bounds of the envelope band, {@code null} for none. The arrays are read on every build.
+   */
+  void setBand(float[] lower, float[] upper) {
+    bandLower = lower;
+    bandUpper = upper;
+  }
+
+  /**
+   * Writes the bounds of the value polygons to {@code out}, outset by what a stroke, its miter joins and the highlight
+   * dots can cover beyond the vertices.
+   */
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  void measureValues(float[] values, float[][] series, int seriesCount, float[] seriesWidths, float[] bandLower,
+      float[] bandUpper, Rect out) {
+    final float[] cos = angles.cos;
+    final float[] sin = angles.sin;
+    float left = centerX;
+    float top = centerY;
+    float right = centerX;
+    float bottom = centerY;
+    float width = chartWidth;
+    final int bands = bandLower == null ? 0 : 2;
+    for (int s = -1 - bands; s < seriesCount; s++) {
+      final float[] data = s >= 0 ? series[s] : s == -1 ? values : s == -2 ? bandUpper : bandLower;
+      if (s >= 0) {
+        width = max(width, seriesWidths[s]);
+      }
+      for (int i = 0; i < angles.count; i++) {
+        final float radius = data[i] * ratio;
+        final float x = radius * cos[i] + centerX;
+        final float y = radius * sin[i] + centerY;
+        left = min(left, x);
+        top = min(top, y);
+        right = max(right, x);
+        bottom = max(bottom, y);
+      }
+    }
+    // the default miter limit lets a join reach twice the stroke width past the vertex
+    final float pad = width * 2 + 1;
+    out.set((int) (left - pad), (int) (top - pad), (int) (right + pad) + 1, (int) (bottom + pad) + 1);
+  }
+
+  /**
+   * Rebuilds {@code path} as the data polygon of the {@code angles.count} values starting at {@code offset}.
+   */
+  void buildPath(Path path, float[] values, int offset) {
+    path.rewind();
+    addPolygon(path, values, offset);
+  }
+
+  /**
+   * Appends the data polygon of the {@code angles.count} values starting at {@code offset} to {@code path} as a new
+   * contour.
+   */
+  void addPolygon(Path path, float[] values, int offset) {
+    final int count = angles.count;
+    if (count == 0) {
+      return;
+    }
+
+    points = RadarGeometry.values(angles, values, offset, ratio, centerX, centerY, points);
+    final float firstX = points[0];
+    final float firstY = points[1];
+
+    if (count == 1) {
+      path.moveTo(centerX, centerY);
+      path.lineTo(firstX, firstY);
+    } else {
+      path.moveTo(firstX, firstY);
+      for (int i = 2; i < count + count; i += 2) {
+        path.lineTo(points[i], points[i + 1]);
+      }
+    }
+    path.close();
+  }
+
+}
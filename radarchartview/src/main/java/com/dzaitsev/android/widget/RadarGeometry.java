@@ -0,0 +1,163 @@
+package com.dzaitsev.android.widget;
+
+import static java.lang.StrictMath.PI;
+import static java.lang.StrictMath.cos;
+import static java.lang.StrictMath.sin;
+
+/**
+ * Radar chart geometry without any {@code android.*} dependency.
+ * <p>
+ * Unit-circle tables are computed once per axis count and shared, all projections write into caller-supplied
+ * buffers which are reused as long as their size fits.
+ */
+@SuppressWarnings("NumericCastThatLosesPrecision") //
+final class RadarGeometry {
+  private static final int      CACHE_SIZE = 16;
+  private static final Angles[] CACHE      = new Angles[CACHE_SIZE];
+  private static       int      cacheNext;
+
+  private RadarGeometry() {
+  }
+
+  /**
+   * Returns the shared unit-circle table for {@code count} axes, the first axis points straight up.
+   */
+  static Angles angles(int count) {
+    synchronized (CACHE) {
+      for (final Angles angles : CACHE) {
+        if (angles != null && angles.count == count) {
+          return angles;
+        }
+      }
+      final Angles angles = new Angles(count);
+      CACHE[cacheNext] = angles;
+      cacheNext = (cacheNext + 1) % CACHE_SIZE;
+      return angles;
+    }
+  }
+
+  /**
+   * Returns {@code buffer} if it holds exactly {@code length} floats, a new array otherwise.
+   */
+  static float[] ensure(float[] buffer, int length) {
+    return buffer != null && buffer.length == length ? buffer : new float[length];
+  }
+
+  /**
+   * Writes the vertices of a regular polygon of the given {@code radius} as {@code x, y} pairs.
+   */
+  static float[] ring(Angles angles, float radius, float x0, float y0, float[] out) {
+    final float[] points = ensure(out, angles.count * 2);
+    ring(angles, radius, x0, y0, points, 0);
+    return points;
+  }
+
+  /**
+   * Writes the vertices of a regular polygon into {@code out} starting at {@code offset}, which must have room for
+   * them.
+   */
+  static void ring(Angles angles, float radius, float x0, float y0, float[] out, int offset) {
+    final int count = angles.count;
+    final float[] cos = angles.cos;
+    final float[] sin = angles.sin;
+    for (int i = 0, j = offset; i < count; i++, j += 2) {
+      out[j] = radius * cos[i] + x0;
+      out[j + 1] = radius * sin[i] + y0;
+    }
+  }
+
+  /**
+   * Writes the data vertices as {@code x, y} pairs, {@code values[i] * ratio} being the distance from the center.
+   */
+  static float[] values(Angles angles, float[] values, float ratio, float x0, float y0, float[] out) {
+    return values(angles, values, 0, ratio, x0, y0, out);
+  }
+
+  /**
+   * Same as {@link #values(Angles, float[], float, float, float, float[])} for values starting at {@code offset}.
+   */
+  static float[] values(Angles angles, float[] values, int offset, float ratio, float x0, float y0, float[] out) {
+    final int count = angles.count;
+    final float[] points = ensure(out, count + count);
+    final float[] cos = angles.cos;
+    final float[] sin = angles.sin;
+    for (int i = 0, j = 0; i < count; i++, j += 2) {
+      final float radius = values[offset + i] * ratio;
+      points[j] = radius * cos[i] + x0;
+      points[j + 1] = radius * sin[i] + y0;
+    }
+    return points;
+  }
+
+  /**
+   * Writes spoke segments from the center as {@code x0, y0, x, y} quadruples, one for every {@code stride}-th axis, in
+   * the layout expected by {@code Canvas.drawLines}.
+   */
+  static float[] spokes(Angles angles, float radius, float x0, float y0, int stride, float[] out) {
+    final int count = angles.count;
+    final float[] lines = ensure(out, (count + stride - 1) / stride * 4);
+    final float[] cos = angles.cos;
+    final float[] sin = angles.sin;
+    for (int i = 0, j = 0; i < count; i += stride, j += 4) {
+      lines[j] = x0;
+      lines[j + 1] = y0;
+      lines[j + 2] = radius * cos[i] + x0;
+      lines[j + 3] = radius * sin[i] + y0;
+    }
+    return lines;
+  }
+
+  /**
+   * Returns the smallest {@code stride} so that every {@code stride}-th of {@code count} points evenly spread over a
+   * circle of the given {@code radius} are at least {@code spacing} pixels apart along the arc.
+   */
+  static int stride(int count, float radius, float spacing) {
+    if (count == 0 || radius <= 0) {
+      return 1;
+    }
+    final double arc = 2 * PI * radius / count;
+    return arc >= spacing ? 1 : (int) StrictMath.ceil(spacing / arc);
+  }
+
+  /**
+   * Returns how many rings {@code tick} pixels apart cover {@code radius}, at least one. The outermost ring is
+   * narrowed to end exactly at {@code radius}.
+   */
+  static int ringCount(float radius, float tick) {
+    return (int) StrictMath.max(StrictMath.ceil(radius / tick), 1);
+  }
+
+  /**
+   * Returns the axis whose spoke points closest to the direction {@code dx, dy} from the center, {@code -1} if there
+   * are no axes. Runs in constant time since the axes are evenly spread.
+   */
+  static int axisAt(Angles angles, float dx, float dy) {
+    final int count = angles.count;
+    if (count == 0) {
+      return -1;
+    }
+    double angle = StrictMath.atan2(dy, dx) + PI / 2;
+    if (angle < 0) {
+      angle += 2 * PI;
+    }
+    return (int) StrictMath.round(angle * count / (2 * PI)) % count;
+  }
+
+  static final class Angles {
+    final int     count;
+    final float[] cos;
+    final float[] sin;
+
+    Angles(int count) {
+      this.count = count;
+      cos = new float[count];
+      sin = new float[count];
+      final double angle = 2 * PI / count;
+      for (int i = 0; i < count; i++) {
+        final double alpha = angle * i - PI / 2;
+        cos[i] = (float) cos(alpha);
+        sin[i] = (float) sin(alpha);
+      }
+    }
+  }
+}
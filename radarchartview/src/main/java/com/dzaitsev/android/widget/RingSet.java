@@ -0,0 +1,100 @@
+package com.dzaitsev.android.widget;
+
+import static com.dzaitsev.android.widget.Colors.gradient;
+
+/**
+ * Background rings stored as parallel primitive arrays, with the vertices of all rings packed into one buffer.
+ * <p>
+ * Rings closer than {@link #MIN_SPACING} pixels are merged into wider bands, so the ring count and the memory are
+ * bounded by the radius in pixels rather than by {@code axisMax / axisTick}. Has no {@code android.*} dependency.
+ */
+@SuppressWarnings("NumericCastThatLosesPrecision") //
+final class RingSet {
+  /** Rings closer than this many pixels are merged. */
+  static final float MIN_SPACING = 2;
+
+  int     count;
+  /** Outer radius of every ring. */
+  float[] radii    = new float[0];
+  /** Width of every ring, i.e. the distance to the previous one. */
+  float[] widths   = new float[0];
+  /** Radius of the stroke center, {@code radius - width / 2}. */
+  float[] centers  = new float[0];
+  int[]   colors   = new int[0];
+  /** {@code x, y} pairs, {@code axisCount} vertices per ring, see {@link #offset(int)}. */
+  float[] vertices = new float[0];
+  int     axisCount;
+
+  /**
+   * Lays out rings {@code tick} pixels apart up to {@code radius}, the outermost one narrowed to end at
+   * {@code radius}. Rings closer than {@link #MIN_SPACING} are merged into bands of a whole number of ticks. A tick
+   * that is not positive, e.g. of a zero scale, gives a single ring.
+   */
+  void layout(float radius, float tick) {
+    if (radius <= 0) {
+      count = 0;
+      return;
+    }
+    if (!(tick > 0)) {
+      tick = radius;
+    }
+    if (tick < MIN_SPACING) {
+      tick *= (float) StrictMath.ceil(MIN_SPACING / tick);
+    }
+    final int count = RadarGeometry.ringCount(radius, tick);
+    if (radii.length < count) {
+      radii = new float[count];
+      widths = new float[count];
+      centers = new float[count];
+      colors = new int[count];
+    }
+    this.count = count;
+    for (int i = 0; i < count - 1; i++) {
+      radii[i] = tick * (i + 1);
+      widths[i] = tick;
+    }
+    radii[count - 1] = radius;
+    widths[count - 1] = count == 1 ? radius : radius - radii[count - 2];
+    for (int i = 0; i < count; i++) {
+      centers[i] = radii[i] - widths[i] / 2;
+    }
+  }
+
+  /**
+   * Colors the rings from {@code startColor} to {@code endColor}, copying {@code shared} instead if it is not
+   * {@code null}.
+   */
+  void color(int startColor, int endColor, int[] shared) {
+    if (count == 0) {
+      return;
+    }
+    if (shared != null) {
+      System.arraycopy(shared, 0, colors, 0, count);
+    } else if (count == 1) {
+      colors[0] = startColor;
+    } else {
+      for (int i = 0; i < count - 1; i++) {
+        colors[i] = gradient(startColor, endColor, i, count);
+      }
+      colors[count - 1] = endColor;
+    }
+  }
+
+  void buildVertices(RadarGeometry.Angles angles, float x0, float y0) {
+    axisCount = angles.count;
+    final int length = count * axisCount * 2;
+    if (vertices.length < length) {
+      vertices = new float[length];
+    }
+    for (int i = 0; i < count; i++) {
+      RadarGeometry.ring(angles, centers[i], x0, y0, vertices, offset(i));
+    }
+  }
+
+  /**
+   * Returns the index of the first vertex of {@code ring} in {@link #vertices}.
+   */
+  int offset(int ring) {
+    return ring * axisCount * 2;
+  }
+}
@@ -0,0 +1,67 @@
+package com.dzaitsev.android.widget;
+
+/**
+ * Fixed-capacity ring buffer of past value samples, one row of {@code axisCount} floats per sample.
+ * <p>
+ * Memory is {@code capacity * axisCount} floats no matter how long the stream runs, appending overwrites the oldest
+ * sample and never allocates once the axis count is stable.
+ */
+final class SampleHistory {
+  float[] samples = new float[0];
+  private int capacity;
+  private int axisCount;
+  private int head;
+  private int size;
+
+  int capacity() {
+    return capacity;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Resizes the buffer, dropping every sample if the capacity or the axis count changes.
+   */
+  void setCapacity(int capacity, int axisCount) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("capacity = " + capacity);
+    }
+    if (capacity != this.capacity || axisCount != this.axisCount) {
+      this.capacity = capacity;
+      this.axisCount = axisCount;
+      samples = RadarGeometry.ensure(samples, capacity * axisCount);
+      clear();
+    }
+  }
+
+  void clear() {
+    head = 0;
+    size = 0;
+  }
+
+  /**
+   * Appends the first {@code axisCount} of {@code values} as the newest sample.
+   */
+  void add(float[] values) {
+    if (capacity == 0) {
+      return;
+    }
+    System.arraycopy(values, 0, samples, head * axisCount, axisCount);
+    head = (head + 1) % capacity;
+    if (size < capacity) {
+      size++;
+    }
+  }
+
+  /**
+   * Returns the offset into {@link #samples} of the sample {@code age} steps back, {@code 0} being the newest.
+   */
+  int offset(int age) {
+    if (age < 0 || age >= size) {
+      throw new IndexOutOfBoundsException("age = " + age + ", size = " + size);
+    }
+    return (head - 1 - age + capacity) % capacity * axisCount;
+  }
+}
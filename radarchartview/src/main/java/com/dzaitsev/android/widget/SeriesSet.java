@@ -0,0 +1,157 @@
+package com.dzaitsev.android.widget;
+
+/**
+ * Additional data series drawn over the same axes as the main one. Values are positional: {@code values[s][i]} belongs
+ * to the {@code i}-th axis, every series follows axis insertions and removals.
+ * <p>
+ * Styles are {@code Paint.Style} ordinals, matching the {@code chartStyle} attribute values.
+ */
+final class SeriesSet {
+  String[]  names   = new String[0];
+  float[][] values  = new float[0][];
+  int[]     colors  = new int[0];
+  float[]   widths  = new float[0];
+  int[]     styles  = new int[0];
+  int       size;
+  private int axisCount;
+
+  int indexOf(String name) {
+    for (int i = 0; i < size; i++) {
+      if (names[i].equals(name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Adds a series or replaces the one with the same name, returns its index.
+   */
+  int put(String name, float[] values, int color, float width, int style) {
+    checkLength(values);
+    int i = indexOf(name);
+    if (i < 0) {
+      i = size++;
+      if (i == names.length) {
+        grow();
+      }
+      names[i] = name;
+      this.values[i] = new float[Math.max(axisCount, 1)];
+    }
+    setValues(i, values);
+    colors[i] = color;
+    widths[i] = width;
+    styles[i] = style;
+    return i;
+  }
+
+  void setValues(int series, float[] values) {
+    checkLength(values);
+    System.arraycopy(values, 0, this.values[series], 0, axisCount);
+  }
+
+  void remove(int series) {
+    final int tail = size - series - 1;
+    System.arraycopy(names, series + 1, names, series, tail);
+    System.arraycopy(values, series + 1, values, series, tail);
+    System.arraycopy(colors, series + 1, colors, series, tail);
+    System.arraycopy(widths, series + 1, widths, series, tail);
+    System.arraycopy(styles, series + 1, styles, series, tail);
+    size--;
+    names[size] = null;
+    values[size] = null;
+  }
+
+  void clear() {
+    for (int i = 0; i < size; i++) {
+      names[i] = null;
+      values[i] = null;
+    }
+    size = 0;
+  }
+
+  /**
+   * Resizes every series to {@code count} axes, new axes get {@code 0}.
+   */
+  void setAxisCount(int count) {
+    for (int s = 0; s < size; s++) {
+      final float[] old = values[s];
+      if (old.length < count) {
+        final float[] grown = new float[Math.max(count, old.length << 1)];
+        System.arraycopy(old, 0, grown, 0, axisCount);
+        values[s] = grown;
+      } else if (count > axisCount) {
+        for (int i = axisCount; i < count; i++) {
+          old[i] = 0;
+        }
+      }
+    }
+    axisCount = count;
+  }
+
+  /**
+   * Rebuilds every series for {@code source.length} axes, axis {@code i} taking the value of the old axis
+   * {@code source[i]}, or {@code 0} if that is negative.
+   */
+  void remapAxes(int[] source) {
+    final int count = source.length;
+    for (int s = 0; s < size; s++) {
+      final float[] old = values[s];
+      final float[] remapped = new float[Math.max(count, 1)];
+      for (int i = 0; i < count; i++) {
+        remapped[i] = source[i] < 0 ? 0 : old[source[i]];
+      }
+      values[s] = remapped;
+    }
+    axisCount = count;
+  }
+
+  void removeAxis(int index) {
+    final int tail = axisCount - index - 1;
+    for (int s = 0; s < size; s++) {
+      System.arraycopy(values[s], index + 1, values[s], index, tail);
+    }
+    axisCount--;
+  }
+
+  /**
+   * Returns the largest value of all series, {@code Float.NEGATIVE_INFINITY} if there is none.
+   */
+  float max() {
+    float max = Float.NEGATIVE_INFINITY;
+    for (int s = 0; s < size; s++) {
+      final float[] series = values[s];
+      for (int i = 0; i < axisCount; i++) {
+        if (series[i] > max) {
+          max = series[i];
+        }
+      }
+    }
+    return max;
+  }
+
+  private void checkLength(float[] values) {
+    if (values.length != axisCount) {
+      throw new IllegalArgumentException("Expected " + axisCount + " values, got " + values.length);
+    }
+  }
+
+  private void grow() {
+    final int length = Math.max(4, names.length << 1);
+    final String[] newNames = new String[length];
+    final float[][] newValues = new float[length][];
+    final int[] newColors = new int[length];
+    final float[] newWidths = new float[length];
+    final int[] newStyles = new int[length];
+    System.arraycopy(names, 0, newNames, 0, names.length);
+    System.arraycopy(values, 0, newValues, 0, values.length);
+    System.arraycopy(colors, 0, newColors, 0, colors.length);
+    System.arraycopy(widths, 0, newWidths, 0, widths.length);
+    System.arraycopy(styles, 0, newStyles, 0, styles.length);
+    names = newNames;
+    values = newValues;
+    colors = newColors;
+    widths = newWidths;
+    styles = newStyles;
+  }
+}
@@ -0,0 +1,80 @@
+package com.dzaitsev.android.widget;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Picture;
+import android.os.Build;
+
+import static android.graphics.Color.TRANSPARENT;
+
+/**
+ * Retained drawing of content which changes much less often than the view is invalidated.
+ * <p>
+ * Recorded into a {@link Picture} when the target canvas can replay one, rendered into an offscreen {@link Bitmap}
+ * otherwise: hardware accelerated canvases only support pictures since Marshmallow.
+ */
+final class StaticLayer {
+  private Picture picture;
+  private Bitmap  bitmap;
+  private Canvas  bitmapCanvas;
+  private boolean valid;
+
+  boolean isValid() {
+    return valid;
+  }
+
+  void invalidate() {
+    valid = false;
+  }
+
+  /**
+   * Returns the canvas to draw the layer content into, {@link #end()} must be called when done.
+   */
+  Canvas begin(Canvas target, int width, int height) {
+    if (usesBitmap(target)) {
+      picture = null;
+      if (bitmap == null || bitmap.getWidth() != width || bitmap.getHeight() != height) {
+        release();
+        bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        bitmapCanvas = new Canvas(bitmap);
+      } else {
+        bitmap.eraseColor(TRANSPARENT);
+      }
+      return bitmapCanvas;
+    }
+    release();
+    if (picture == null) {
+      picture = new Picture();
+    }
+    return picture.beginRecording(width, height);
+  }
+
+  void end() {
+    if (picture != null) {
+      picture.endRecording();
+    }
+    valid = true;
+  }
+
+  void draw(Canvas canvas) {
+    if (picture != null) {
+      canvas.drawPicture(picture);
+    } else if (bitmap != null) {
+      canvas.drawBitmap(bitmap, 0, 0, null);
+    }
+  }
+
+  void release() {
+    if (bitmap != null) {
+      bitmap.recycle();
+      bitmap = null;
+      bitmapCanvas = null;
+    }
+    valid = false;
+  }
+
+  private static boolean usesBitmap(Canvas target) {
+    return Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB && Build.VERSION.SDK_INT < Build.VERSION_CODES.M
+        && target.isHardwareAccelerated();
+  }
+}
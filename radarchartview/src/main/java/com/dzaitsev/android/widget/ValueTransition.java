@@ -0,0 +1,70 @@
+package com.dzaitsev.android.widget;
+
+/**
+ * Interpolates axis values and the axis maximum between two snapshots. All arrays are reused across transitions as
+ * long as the axis count does not change, a running transition never allocates.
+ */
+final class ValueTransition {
+  float[] from    = new float[0];
+  float[] to      = new float[0];
+  float[] current = new float[0];
+  float   fromMax;
+  float   toMax;
+  float   currentMax;
+  /** Axes to apply once the transition ends, {@code null} unless axes are being removed or reordered. */
+  String[] endNames;
+  float[]  endValues;
+  private long    startTime;
+  private long    duration;
+  private boolean running;
+
+  boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Copies the first {@code count} elements of {@code from} and {@code to} and starts the transition at {@code now}.
+   */
+  void start(float[] from, float[] to, int count, float fromMax, float toMax, long now, long duration) {
+    this.from = RadarGeometry.ensure(this.from, count);
+    this.to = RadarGeometry.ensure(this.to, count);
+    current = RadarGeometry.ensure(current, count);
+    System.arraycopy(from, 0, this.from, 0, count);
+    System.arraycopy(to, 0, this.to, 0, count);
+    System.arraycopy(from, 0, current, 0, count);
+    this.fromMax = fromMax;
+    this.toMax = toMax;
+    currentMax = fromMax;
+    startTime = now;
+    this.duration = duration;
+    running = true;
+  }
+
+  void stop() {
+    running = false;
+    endNames = null;
+    endValues = null;
+  }
+
+  /**
+   * Returns the elapsed fraction of the duration at {@code now}, clamped to {@code [0, 1]}.
+   */
+  float fraction(long now) {
+    if (duration <= 0) {
+      return 1;
+    }
+    final float fraction = (float) (now - startTime) / duration;
+    return fraction < 0 ? 0 : fraction > 1 ? 1 : fraction;
+  }
+
+  /**
+   * Writes the interpolated values for the interpolated fraction {@code t} into {@link #current}.
+   */
+  void apply(float t) {
+    final int count = current.length;
+    for (int i = 0; i < count; i++) {
+      current[i] = from[i] + (to[i] - from[i]) * t;
+    }
+    currentMax = fromMax + (toMax - fromMax) * t;
+  }
+}
@@ -0,0 +1,110 @@
+package com.dzaitsev.android.widget;
+
+import android.graphics.Canvas;
+import java.lang.management.ManagementFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import static android.graphics.Paint.Style.STROKE;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNoException;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Fails if the per-frame work of {@link RadarChartView#onDraw} allocates in steady state: the frame's value rebuild and
+ * every {@link RadarChartRenderer} draw call, run against a no-op {@link Canvas}. Framework calls return defaults in
+ * unit tests, so only the library's own allocations are counted. The view itself, with its dirty flags and cached
+ * layers, is gated on a device by {@code DrawAllocationTest}. Skipped on JVMs that cannot count allocations.
+ */
+public class AllocationTest {
+  private static final int WARM_UP    = 10000;
+  private static final int ITERATIONS = 10000;
+  private static final int AXES       = 32;
+
+  private com.sun.management.ThreadMXBean threads;
+  private AxisStore                       axis;
+  private RadarFrame                      frame;
+  private SeriesSet                       series;
+  private Canvas                          canvas;
+
+  @Before public void setUp() throws Exception {
+    final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    try {
+      assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+    } catch (NoClassDefFoundError e) {
+      assumeNoException(e);
+    }
+    threads = (com.sun.management.ThreadMXBean) bean;
+    assumeTrue(threads.isThreadAllocatedMemorySupported());
+    threads.setThreadAllocatedMemoryEnabled(true);
+    axis = new AxisStore();
+    for (int i = 0; i < AXES; i++) {
+      axis.put("axis" + i, i * 3.5F);
+    }
+    series = new SeriesSet();
+    series.setAxisCount(AXES);
+    series.put("other", new float[AXES], 0xFF0000FF, 2, STROKE.ordinal());
+    frame = new RadarFrame();
+    frame.chartStyle = STROKE;
+    frame.setBounds(400, 400, 20, 20, 20, 20);
+    frame.setAxisCount(AXES);
+    frame.setScale(axis.max(), 10);
+    frame.buildVertices();
+    frame.buildSpokes();
+    frame.measureLabels(axis.names(), AXES);
+    frame.placeLabels();
+    frame.setSeriesStyles(series.size, series.colors, series.widths, series.styles);
+    frame.setBand(new float[AXES], axis.values().clone());
+    frame.buildValues(axis.values(), series.values);
+    canvas = new Canvas();
+  }
+
+  @Test public void frame_doesNotAllocate() throws Exception {
+    final SampleHistory history = new SampleHistory();
+    history.setCapacity(4, AXES);
+    for (int i = 0; i < 4; i++) {
+      history.add(axis.values());
+    }
+    assertNoAllocations(new Runnable() {
+      @Override public void run() {
+        RadarChartRenderer.drawGrid(canvas, frame);
+        RadarChartRenderer.drawHistory(canvas, frame, history);
+        RadarChartRenderer.drawBand(canvas, frame);
+        RadarChartRenderer.drawValues(canvas, frame);
+        RadarChartRenderer.drawAxis(canvas, frame);
+        RadarChartRenderer.drawHighlight(canvas, frame, 3, axis.values(), series.values);
+      }
+    });
+  }
+
+  @Test public void valueUpdate_doesNotAllocate() throws Exception {
+    final float[] values = new float[AXES];
+    assertNoAllocations(new Runnable() {
+      @Override public void run() {
+        for (int i = 0; i < values.length; i++) {
+          values[i] = (values[i] + 0.5F) % 100;
+        }
+        axis.setValues(values);
+        frame.setScale(axis.max() + 1, 10);
+        frame.buildVertices();
+        frame.buildValues(axis.values(), series.values);
+        RadarChartRenderer.drawValues(canvas, frame);
+      }
+    });
+  }
+
+  private void assertNoAllocations(Runnable frame) {
+    for (int i = 0; i < WARM_UP; i++) {
+      frame.run();
+    }
+    final long threadId = Thread.currentThread()
+        .getId();
+    final long before = threads.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < ITERATIONS; i++) {
+      frame.run();
+    }
+    final long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+    // a few bytes may come from the measurement itself, anything per-frame is at least ITERATIONS bytes
+    assertTrue("Allocated " + allocated + " bytes in " + ITERATIONS + " frames", allocated < ITERATIONS);
+  }
+}
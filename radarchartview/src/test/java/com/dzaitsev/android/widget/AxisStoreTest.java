@@ -0,0 +1,84 @@
+package com.dzaitsev.android.widget;
+
+import java.util.Iterator;
+import java.util.Map;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AxisStoreTest {
+  @Test public void put_keepsInsertionOrder() throws Exception {
+    final AxisStore store = new AxisStore();
+    assertTrue(store.put("a", 1));
+    assertTrue(store.put("b", 2));
+    assertFalse(store.put("a", 3));
+    assertEquals(2, store.size());
+    assertEquals("a", store.name(0));
+    assertEquals(3, store.value(0), 0);
+    assertEquals(3, store.max(), 0);
+  }
+
+  @Test public void remove_shiftsFollowingAxes() throws Exception {
+    final AxisStore store = new AxisStore();
+    store.set(new String[] { "a", "b", "c", "d" }, new float[] { 1, 2, 3, 4 });
+    assertTrue(store.remove("b"));
+    assertFalse(store.remove("b"));
+    assertEquals(3, store.size());
+    assertEquals("c", store.name(1));
+    assertEquals(2, store.indexOf("d"));
+    assertEquals(4, store.value(store.indexOf("d")), 0);
+  }
+
+  @Test public void growsBeyondInitialCapacity() throws Exception {
+    final AxisStore store = new AxisStore();
+    for (int i = 0; i < 100; i++) {
+      store.put("axis" + i, i);
+    }
+    assertEquals(100, store.size());
+    assertEquals(99, store.max(), 0);
+    assertEquals(42, store.indexOf("axis42"));
+  }
+
+  @Test public void asMap_isLiveOrderedView() throws Exception {
+    final AxisStore store = new AxisStore();
+    final Map<String, Float> map = store.asMap();
+    store.put("x", 5);
+    store.put("y", 6);
+    assertEquals(2, map.size());
+    assertEquals(6, map.get("y"), 0);
+    assertNull(map.get("z"));
+    final Iterator<String> keys = map.keySet()
+        .iterator();
+    assertEquals("x", keys.next());
+    assertEquals("y", keys.next());
+    assertFalse(keys.hasNext());
+  }
+
+  @Test public void max_tracksLoweredAndRemovedMaximum() throws Exception {
+    final AxisStore store = new AxisStore();
+    store.set(new String[] { "a", "b", "c" }, new float[] { 1, 5, 3 });
+    assertEquals(5, store.max(), 0);
+    store.put("a", 7);
+    assertEquals(7, store.max(), 0);
+    store.put("a", 2);
+    assertEquals(5, store.max(), 0);
+    store.remove("b");
+    assertEquals(3, store.max(), 0);
+    store.setValues(new float[] { 4, 1 });
+    assertEquals(4, store.max(), 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void setValues_rejectsSizeMismatch() throws Exception {
+    final AxisStore store = new AxisStore();
+    store.put("a", 1);
+    store.setValues(new float[] { 1, 2 });
+  }
+
+  @Test(expected = UnsupportedOperationException.class) public void asMap_isReadOnly() throws Exception {
+    new AxisStore().asMap()
+        .put("a", 1F);
+  }
+}
@@ -0,0 +1,119 @@
+package com.dzaitsev.android.widget;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RadarAggregationTest {
+  private static final String[] NAMES = { "a", "b", "c" };
+
+  @Test public void values_computeEveryStatistic() throws Exception {
+    final RadarAggregation aggregation = new RadarAggregation(NAMES);
+    aggregation.addAll(new int[] { 0, 0, 0, 1 }, new float[] { 1, 2, 6, -4 }, 0, 4);
+    assertArrayEquals(new float[] { 9, -4, 0 }, aggregation.values(RadarAggregation.SUM), 0);
+    assertArrayEquals(new float[] { 3, -4, 0 }, aggregation.values(RadarAggregation.MEAN), 0);
+    assertArrayEquals(new float[] { 1, -4, 0 }, aggregation.values(RadarAggregation.MIN), 0);
+    assertArrayEquals(new float[] { 6, -4, 0 }, aggregation.values(RadarAggregation.MAX), 0);
+    assertArrayEquals(new float[] { 3, 1, 0 }, aggregation.values(RadarAggregation.COUNT), 0);
+    assertTrue(Double.isNaN(aggregation.getMean(2)));
+  }
+
+  @Test public void percentiles_stayWithinRelativeAccuracy() throws Exception {
+    final RadarAggregation aggregation = new RadarAggregation(new String[] { "x" }, 0.01F);
+    for (int i = 1; i <= 10000; i++) {
+      aggregation.add(0, i);
+    }
+    assertEquals(5000, aggregation.getPercentile(0, 0.5), 5000 * 0.01);
+    assertEquals(9900, aggregation.getPercentile(0, 0.99), 9900 * 0.01);
+    assertEquals(1, aggregation.getPercentile(0, 0), 0.01);
+  }
+
+  @Test public void addSample_feedsOneValuePerAxis() throws Exception {
+    final RadarAggregation aggregation = new RadarAggregation(NAMES);
+    for (int i = 0; i < 100; i++) {
+      aggregation.addSample(new float[] { i, -i, 0 });
+    }
+    assertEquals(100, aggregation.getCount(2));
+    assertEquals(89, aggregation.getPercentile(0, 0.9), 0.89);
+    assertEquals(-10, aggregation.getPercentile(1, 0.9), 0.1);
+    assertEquals(0, aggregation.getPercentile(2, 0.9), 0);
+  }
+
+  @Test public void add_rejectsNonFiniteValues() throws Exception {
+    final RadarAggregation aggregation = new RadarAggregation(NAMES);
+    for (final float value : new float[] { Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.NaN }) {
+      try {
+        aggregation.add(0, value);
+        fail();
+      } catch (IllegalArgumentException expected) {
+      }
+    }
+    aggregation.add(0, Float.MAX_VALUE);
+    assertEquals(1, aggregation.getCount(0));
+    assertEquals(Float.MAX_VALUE, aggregation.getPercentile(0, 1), Float.MAX_VALUE * 0.01);
+  }
+
+  @Test public void parallel_failedTaskLeavesAggregationUnchanged() throws Exception {
+    final int[] axes = new int[1000];
+    final float[] values = new float[axes.length];
+    values[values.length - 1] = Float.NaN;
+    final RadarAggregation aggregation = new RadarAggregation(NAMES);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      aggregation.addAll(axes, values, executor, 4);
+      fail();
+    } catch (IllegalArgumentException expected) {
+      assertEquals(0, aggregation.getCount(0));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test public void parallel_matchesSequential() throws Exception {
+    final Random random = new Random(42);
+    final int[] axes = new int[100000];
+    final float[] values = new float[axes.length];
+    for (int i = 0; i < axes.length; i++) {
+      axes[i] = random.nextInt(NAMES.length);
+      values[i] = random.nextInt(2001) - 1000;
+    }
+    final RadarAggregation sequential = new RadarAggregation(NAMES);
+    sequential.addAll(axes, values, 0, axes.length);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final RadarAggregation columns = new RadarAggregation(NAMES);
+      columns.addAll(axes, values, executor, 7);
+      final RadarAggregation streamed = new RadarAggregation(NAMES);
+      streamed.addAll(new RadarAggregation.RecordSource() {
+        int next;
+
+        @Override public int read(int[] chunkAxes, float[] chunkValues) {
+          if (next == axes.length) {
+            return -1;
+          }
+          final int count = Math.min(chunkAxes.length, axes.length - next);
+          System.arraycopy(axes, next, chunkAxes, 0, count);
+          System.arraycopy(values, next, chunkValues, 0, count);
+          next += count;
+          return count;
+        }
+      }, executor, 4, 1000);
+
+      for (final RadarAggregation parallel : new RadarAggregation[] { columns, streamed }) {
+        for (int statistic = RadarAggregation.SUM; statistic <= RadarAggregation.COUNT; statistic++) {
+          assertArrayEquals(sequential.values(statistic), parallel.values(statistic), 0);
+        }
+        assertArrayEquals(sequential.percentiles(0.9), parallel.percentiles(0.9), 0);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
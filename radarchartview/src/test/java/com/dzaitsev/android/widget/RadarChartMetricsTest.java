@@ -0,0 +1,38 @@
+package com.dzaitsev.android.widget;
+
+import org.junit.Test;
+
+import static com.dzaitsev.android.widget.RadarChartMetrics.PHASE_RINGS;
+import static com.dzaitsev.android.widget.RadarChartMetrics.PHASE_SIZE;
+import static org.junit.Assert.assertEquals;
+
+public class RadarChartMetricsTest {
+  @Test public void record_aggregatesIntoHistogram() throws Exception {
+    final RadarChartMetrics metrics = new RadarChartMetrics();
+    for (int i = 1; i <= 99; i++) {
+      metrics.record(PHASE_RINGS, 1000);
+    }
+    metrics.record(PHASE_RINGS, 1000000);
+
+    assertEquals(100, metrics.getCount(PHASE_RINGS));
+    assertEquals(1000000, metrics.getLastNanos(PHASE_RINGS));
+    assertEquals(1000000, metrics.getMaxNanos(PHASE_RINGS));
+    assertEquals(1099000, metrics.getTotalNanos(PHASE_RINGS));
+    assertEquals(1023, metrics.getPercentileNanos(PHASE_RINGS, 50));
+    assertEquals(1023, metrics.getPercentileNanos(PHASE_RINGS, 99));
+    assertEquals(1000000, metrics.getPercentileNanos(PHASE_RINGS, 100));
+    assertEquals(0, metrics.getPercentileNanos(PHASE_SIZE, 50));
+  }
+
+  @Test public void beginFrame_clearsLastButKeepsTotals() throws Exception {
+    final RadarChartMetrics metrics = new RadarChartMetrics();
+    metrics.record(PHASE_SIZE, 10);
+    metrics.onPathsDrawn(3);
+    metrics.beginFrame();
+    assertEquals(0, metrics.getLastNanos(PHASE_SIZE));
+    assertEquals(10, metrics.getTotalNanos(PHASE_SIZE));
+    metrics.reset();
+    assertEquals(0, metrics.getCount(PHASE_SIZE));
+    assertEquals(0, metrics.getPathsDrawn());
+  }
+}
@@ -0,0 +1,73 @@
+package com.dzaitsev.android.widget;
+
+import java.io.StringWriter;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RadarChartSvgTest {
+  @Test public void writesRingsValuesAndLabels() throws Exception {
+    final RadarChartSnapshot snapshot = new RadarChartSnapshot.Builder()
+        .size(200, 200)
+        .axis(new String[] { "a", "b", "c & d" }, new float[] { 10, 20, 5 })
+        .axisMax(20)
+        .axisTick(4)
+        .chartStyle(RadarChartSnapshot.STYLE_FILL)
+        .build();
+    final StringWriter out = new StringWriter();
+    new RadarChartSvg().write(snapshot, out);
+    final String svg = out.toString();
+
+    assertTrue(svg.startsWith("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"200\" height=\"200\">"));
+    assertEquals(5, occurrences(svg, "<polygon "));
+    assertTrue(svg.contains("stroke=\"#5f9ca1\""));
+    assertTrue(svg.contains("stroke=\"#c3e3e5\""));
+    assertTrue(svg.contains("<path d=\"M100,50 186.6,150 78.35,112.5Z\" fill=\"#22737b\"/>"));
+    assertTrue(svg.contains(">c &amp; d</text>"));
+    assertTrue(svg.endsWith("</svg>\n"));
+  }
+
+  @Test public void dropsCharactersIllegalInXml() throws Exception {
+    final RadarChartSnapshot snapshot = new RadarChartSnapshot.Builder()
+        .size(200, 200)
+        .axis(new String[] { "a\u0000b\u001Bc", "d" }, new float[] { 1, 2 })
+        .build();
+    final StringWriter out = new StringWriter();
+    new RadarChartSvg().write(snapshot, out);
+    assertTrue(out.toString().contains(">abc</text>"));
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void snapshot_rejectsUnknownStyle() throws Exception {
+    new RadarChartSnapshot.Builder().addSeries("s", new float[0], 0, 1, 3);
+  }
+
+  @Test public void smoothGradient_fillsOuterPolygonOnce() throws Exception {
+    final RadarChartSnapshot snapshot = new RadarChartSnapshot.Builder()
+        .size(200, 200)
+        .axis(new String[] { "a", "b", "c", "d" }, new float[] { 1, 2, 3, 4 })
+        .smoothGradient(true)
+        .build();
+    final StringWriter out = new StringWriter();
+    new RadarChartSvg().write(snapshot, out);
+    final String svg = out.toString();
+
+    assertTrue(svg.contains("<stop offset=\"0\" stop-color=\"#5f9ca1\"/><stop offset=\"1\" stop-color=\"#c3e3e5\"/>"));
+    assertEquals(1, occurrences(svg, "<polygon "));
+    assertTrue(svg.contains("<polygon points=\"100,0 200,100 100,200 0,100\" fill=\"url(#background)\"/>"));
+  }
+
+  @Test public void gradientMatchesAndroidColorMath() throws Exception {
+    assertEquals(0xFF5F9CA1, Colors.gradient(0xFF5F9CA1, 0xFFC3E3E5, 0, 5));
+    assertEquals(0xFF91BFC3, Colors.gradient(0xFF5F9CA1, 0xFFC3E3E5, 5, 10));
+    assertEquals(0x7F000000, Colors.gradient(0xFF000000, 0x00000000, 1, 2));
+  }
+
+  private static int occurrences(String text, String part) {
+    int count = 0;
+    for (int i = text.indexOf(part); i >= 0; i = text.indexOf(part, i + 1)) {
+      count++;
+    }
+    return count;
+  }
+}
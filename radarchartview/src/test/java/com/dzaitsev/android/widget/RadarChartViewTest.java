@@ -0,0 +1,58 @@
+package com.dzaitsev.android.widget;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RadarChartViewTest {
+  private RadarChartView view;
+
+  @Before public void setUp() {
+    view = new RadarChartView(null, new RadarChartStyle.Builder().build());
+    view.setAxis(new String[] { "a", "b", "c" }, new float[] { 1, 2, 3 });
+    view.onSizeChanged(400, 400, 0, 0);
+    // lays out the three axes, as the first frame would
+    view.axisAt(200, 200);
+  }
+
+  @Test public void axisAt_duringEditThatAddsAxis_usesCommittedAxes() {
+    final RadarChartView.Editor editor = view.edit().put("d", 4);
+    // resolved against the three laid out axes until the edit is committed
+    assertEquals(1, view.axisAt(350, 200));
+    editor.commit();
+    assertEquals(1, view.axisAt(350, 200));
+    assertEquals(2, view.axisAt(200, 350));
+    assertEquals(3, view.axisAt(50, 200));
+  }
+
+  @Test public void performClick_reportsSelectedAxis() {
+    final int[] clicked = { -1 };
+    view.setOnAxisClickListener(new RadarChartView.OnAxisClickListener() {
+      @Override public void onAxisClick(RadarChartView view, int axis) {
+        clicked[0] = axis;
+      }
+    });
+    view.setSelectedAxis(2);
+    assertTrue(view.performClick());
+    assertEquals(2, clicked[0]);
+  }
+
+  @Test public void setBand_keepsRunningAnimation() {
+    view.animateTo(new float[] { 3, 2, 1 }, 1000, null);
+    view.setBand(new float[3], new float[] { 4, 4, 4 });
+    view.addSeries("other", new float[] { 1, 1, 1 }, 0xFF0000FF, 2, Paint.Style.STROKE);
+    assertTrue(view.isAnimating());
+    view.setAxisValues(new float[] { 1, 2, 3 });
+    assertFalse(view.isAnimating());
+  }
+
+  @Test(expected = IllegalStateException.class) public void onDraw_failsOnUncommittedEdit() {
+    view.edit().put("d", 4);
+    view.onDraw(new Canvas());
+  }
+}
@@ -0,0 +1,70 @@
+package com.dzaitsev.android.widget;
+
+import org.junit.Test;
+
+import static java.lang.StrictMath.PI;
+import static java.lang.StrictMath.cos;
+import static java.lang.StrictMath.sin;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class RadarGeometryTest {
+  private static final float DELTA = 1e-3F;
+
+  @Test public void angles_areSharedPerAxisCount() throws Exception {
+    assertSame(RadarGeometry.angles(7), RadarGeometry.angles(7));
+    assertNotSame(RadarGeometry.angles(7), RadarGeometry.angles(8));
+  }
+
+  @Test public void ring_matchesUnitCircle() throws Exception {
+    final int count = 5;
+    final float[] points = RadarGeometry.ring(RadarGeometry.angles(count), 10, 50, 60, null);
+    assertEquals(count * 2, points.length);
+    for (int i = 0; i < count; i++) {
+      final double alpha = 2 * PI / count * i - PI / 2;
+      assertEquals(10 * cos(alpha) + 50, points[i * 2], DELTA);
+      assertEquals(10 * sin(alpha) + 60, points[i * 2 + 1], DELTA);
+    }
+  }
+
+  @Test public void ring_reusesBufferOfSameSize() throws Exception {
+    final float[] buffer = new float[6];
+    assertSame(buffer, RadarGeometry.ring(RadarGeometry.angles(3), 1, 0, 0, buffer));
+    assertNotSame(buffer, RadarGeometry.ring(RadarGeometry.angles(4), 1, 0, 0, buffer));
+  }
+
+  @Test public void axisAt_picksClosestSpoke() throws Exception {
+    final RadarGeometry.Angles angles = RadarGeometry.angles(4);
+    assertEquals(0, RadarGeometry.axisAt(angles, 0.1F, -10));
+    assertEquals(1, RadarGeometry.axisAt(angles, 10, 2));
+    assertEquals(2, RadarGeometry.axisAt(angles, -1, 10));
+    assertEquals(3, RadarGeometry.axisAt(angles, -10, -1));
+    assertEquals(0, RadarGeometry.axisAt(angles, -1, -10));
+    assertEquals(-1, RadarGeometry.axisAt(RadarGeometry.angles(0), 1, 1));
+  }
+
+  @Test public void spokes_skipAxesByStride() throws Exception {
+    final float[] lines = RadarGeometry.spokes(RadarGeometry.angles(5), 10, 1, 2, 2, null);
+    assertEquals(12, lines.length);
+    assertEquals(1, lines[0], DELTA);
+    assertEquals(2, lines[1], DELTA);
+    assertEquals(1, lines[2], DELTA);
+    assertEquals(-8, lines[3], DELTA);
+  }
+
+  @Test public void stride_growsWhenPointsGetDenser() throws Exception {
+    assertEquals(1, RadarGeometry.stride(10, 100, 2));
+    assertEquals(1, RadarGeometry.stride(0, 100, 2));
+    assertEquals(4, RadarGeometry.stride(1000, 100, 2.5F));
+  }
+
+  @Test public void values_scaleByRatio() throws Exception {
+    final float[] points = RadarGeometry.values(RadarGeometry.angles(4), new float[] { 1, 2, 3, 4 }, 10, 0, 0, null);
+    assertEquals(0, points[0], DELTA);
+    assertEquals(-10, points[1], DELTA);
+    assertEquals(20, points[2], DELTA);
+    assertEquals(30, points[5], DELTA);
+    assertEquals(-40, points[6], DELTA);
+  }
+}
@@ -0,0 +1,52 @@
+package com.dzaitsev.android.widget;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RingSetTest {
+  @Test public void layout_keepsTicksAndNarrowsOutermostRing() throws Exception {
+    final RingSet rings = new RingSet();
+    rings.layout(100, 30);
+    assertEquals(4, rings.count);
+    assertEquals(30, rings.radii[0], 0);
+    assertEquals(90, rings.radii[2], 0);
+    assertEquals(100, rings.radii[3], 0);
+    assertEquals(10, rings.widths[3], 0);
+    assertEquals(95, rings.centers[3], 0);
+  }
+
+  @Test public void layout_mergesRingsCloserThanMinSpacing() throws Exception {
+    final RingSet rings = new RingSet();
+    rings.layout(500, 0.01F);
+    assertTrue(rings.count <= 500 / RingSet.MIN_SPACING + 1);
+    assertEquals(500, rings.radii[rings.count - 1], 0);
+    float total = 0;
+    for (int i = 0; i < rings.count; i++) {
+      total += rings.widths[i];
+    }
+    assertEquals(500, total, 0.01);
+  }
+
+  @Test public void layout_givesOneRingForDegenerateTicks() throws Exception {
+    final RingSet rings = new RingSet();
+    for (final float tick : new float[] { 0, -10, Float.NaN, Float.POSITIVE_INFINITY }) {
+      rings.layout(100, tick);
+      assertEquals(1, rings.count);
+      assertEquals(100, rings.radii[0], 0);
+      assertEquals(100, rings.widths[0], 0);
+    }
+  }
+
+  @Test public void buildVertices_packsAllRingsIntoOneBuffer() throws Exception {
+    final RingSet rings = new RingSet();
+    rings.layout(20, 10);
+    rings.color(0xFF000000, 0xFFFFFFFF, null);
+    rings.buildVertices(RadarGeometry.angles(4), 0, 0);
+    assertEquals(0xFF000000, rings.colors[0]);
+    assertEquals(0xFFFFFFFF, rings.colors[1]);
+    assertEquals(-5, rings.vertices[rings.offset(0) + 1], 1e-5);
+    assertEquals(-15, rings.vertices[rings.offset(1) + 1], 1e-5);
+  }
+}
@@ -0,0 +1,33 @@
+package com.dzaitsev.android.widget;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class SampleHistoryTest {
+  @Test public void add_overwritesOldestSample() throws Exception {
+    final SampleHistory history = new SampleHistory();
+    history.setCapacity(3, 2);
+    for (int i = 1; i <= 5; i++) {
+      history.add(new float[] { i, -i });
+    }
+    assertEquals(3, history.size());
+    assertEquals(6, history.samples.length);
+    assertEquals(5, history.samples[history.offset(0)], 0);
+    assertEquals(-4, history.samples[history.offset(1) + 1], 0);
+    assertEquals(3, history.samples[history.offset(2)], 0);
+  }
+
+  @Test public void setCapacity_dropsSamplesOnlyWhenLayoutChanges() throws Exception {
+    final SampleHistory history = new SampleHistory();
+    history.setCapacity(4, 1);
+    history.add(new float[] { 1 });
+    history.setCapacity(4, 1);
+    assertEquals(1, history.size());
+    history.setCapacity(4, 2);
+    assertEquals(0, history.size());
+    history.setCapacity(0, 2);
+    history.add(new float[] { 1, 2 });
+    assertEquals(0, history.size());
+  }
+}
@@ -0,0 +1,65 @@
+package com.dzaitsev.android.widget;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class SeriesSetTest {
+  @Test public void put_replacesSeriesWithSameName() throws Exception {
+    final SeriesSet series = new SeriesSet();
+    series.setAxisCount(2);
+    assertEquals(0, series.put("a", new float[] { 1, 2 }, 0, 1, 0));
+    assertEquals(1, series.put("b", new float[] { 3, 4 }, 0, 1, 0));
+    assertEquals(0, series.put("a", new float[] { 5, 6 }, 0, 1, 0));
+    assertEquals(2, series.size);
+    assertEquals(6, series.max(), 0);
+  }
+
+  @Test public void put_withWrongLengthLeavesNoSeries() throws Exception {
+    final SeriesSet series = new SeriesSet();
+    series.setAxisCount(2);
+    try {
+      series.put("a", new float[] { 1, 2, 3 }, 0, 1, 0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+      assertEquals(0, series.size);
+      assertEquals(-1, series.indexOf("a"));
+    }
+  }
+
+  @Test public void remapAxes_removesFromTheMiddle() throws Exception {
+    final SeriesSet series = new SeriesSet();
+    series.setAxisCount(3);
+    series.put("a", new float[] { 1, 2, 3 }, 0, 1, 0);
+    series.remapAxes(new int[] { 0, 2 });
+    assertEquals(3, series.max(), 0);
+    assertEquals(1, series.values[0][0], 0);
+    assertEquals(3, series.values[0][1], 0);
+    series.setValues(0, new float[] { 4, 5 });
+  }
+
+  @Test public void remapAxes_reordersAndAdds() throws Exception {
+    final SeriesSet series = new SeriesSet();
+    series.setAxisCount(3);
+    series.put("a", new float[] { 1, 2, 3 }, 0, 1, 0);
+    series.remapAxes(new int[] { 2, -1, 1, 0 });
+    assertEquals(3, series.values[0][0], 0);
+    assertEquals(0, series.values[0][1], 0);
+    assertEquals(2, series.values[0][2], 0);
+    assertEquals(1, series.values[0][3], 0);
+  }
+
+  @Test public void followsAxisInsertionsAndRemovals() throws Exception {
+    final SeriesSet series = new SeriesSet();
+    series.setAxisCount(3);
+    series.put("a", new float[] { 1, 2, 3 }, 0, 1, 0);
+    series.removeAxis(1);
+    assertEquals(3, series.values[0][1], 0);
+    series.setAxisCount(3);
+    assertEquals(0, series.values[0][2], 0);
+    series.remove(0);
+    assertEquals(0, series.size);
+    assertEquals(Float.NEGATIVE_INFINITY, series.max(), 0);
+  }
+}